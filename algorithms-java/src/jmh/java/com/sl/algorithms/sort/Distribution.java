@@ -0,0 +1,97 @@
+package com.sl.algorithms.sort;
+
+import java.util.Random;
+
+/**
+ * <br>Shapes of input data the sort benchmarks are run against.<br> <br>Every distribution
+ * generates non-negative int keys in the range [0, n), which {@link ElementType} then maps to the
+ * element type under test. Generation is seeded, so repeated runs (and releases) sort the exact
+ * same data.<br>
+ */
+public enum Distribution {
+  RANDOM,
+  SORTED,
+  REVERSED,
+  FEW_UNIQUE,
+  ORGAN_PIPE,
+  ZIPF;
+
+  private static final long SEED = 0x5EED_1DEAL;
+  private static final int FEW_UNIQUE_KEYS = 16;
+  /**
+   * Rank-frequency exponent; s=1 is the classic Zipf's law.
+   */
+  private static final double ZIPF_EXPONENT = 1.0;
+
+  public int[] generate(int n) {
+    Random random = new Random(SEED);
+    int[] keys = new int[n];
+    switch (this) {
+      case RANDOM: {
+        for (int i = 0; i < n; i++) {
+          keys[i] = random.nextInt(n);
+        }
+        break;
+      }
+      case SORTED: {
+        for (int i = 0; i < n; i++) {
+          keys[i] = i;
+        }
+        break;
+      }
+      case REVERSED: {
+        for (int i = 0; i < n; i++) {
+          keys[i] = n - 1 - i;
+        }
+        break;
+      }
+      case FEW_UNIQUE: {
+        for (int i = 0; i < n; i++) {
+          keys[i] = random.nextInt(FEW_UNIQUE_KEYS);
+        }
+        break;
+      }
+      case ORGAN_PIPE: { // 0,1,2,..,n/2,..,2,1,0
+        for (int i = 0; i < n; i++) {
+          keys[i] = (i < n / 2) ? i : n - 1 - i;
+        }
+        break;
+      }
+      case ZIPF: {
+        zipf(keys, random);
+        break;
+      }
+      default:
+        throw new IllegalStateException(name());
+    }
+    return keys;
+  }
+
+  /**
+   * <br>Inverse-CDF sampling of ranks 0..n-1, where rank r is drawn with probability proportional
+   * to 1/(r+1)^s.<br>
+   */
+  private static void zipf(int[] keys, Random random) {
+    int n = keys.length;
+    double[] cdf = new double[n];
+    double sum = 0;
+    for (int r = 0; r < n; r++) {
+      sum += 1.0 / Math.pow(r + 1, ZIPF_EXPONENT);
+      cdf[r] = sum;
+    }
+    for (int i = 0; i < n; i++) {
+      double u = random.nextDouble() * sum;
+      int s = 0;
+      int e = n - 1;
+      while (s < e) {
+        int m = (s + e) >>> 1;
+        if (cdf[m] < u) {
+          s = m + 1;
+        } else {
+          e = m;
+        }
+      }
+      keys[i] = s;
+    }
+  }
+}
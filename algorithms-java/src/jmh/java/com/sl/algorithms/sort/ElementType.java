@@ -0,0 +1,43 @@
+package com.sl.algorithms.sort;
+
+/**
+ * <br>Element types the sort benchmarks box their keys into.<br> <br>The mapping preserves the
+ * key order, so a {@link Distribution} keeps its shape for every element type:
+ * <br>- INTEGER: the key itself.
+ * <br>- DOUBLE: the key scaled into [-1, 1), the range {@code FPBucketSort} expects.
+ * <br>- STRING: the key as a zero-padded, fixed-width decimal.<br>
+ */
+public enum ElementType {
+  INTEGER,
+  DOUBLE,
+  STRING;
+
+  public Comparable[] box(int[] keys) {
+    int n = keys.length;
+    switch (this) {
+      case INTEGER: {
+        Integer[] objects = new Integer[n];
+        for (int i = 0; i < n; i++) {
+          objects[i] = keys[i];
+        }
+        return objects;
+      }
+      case DOUBLE: {
+        Double[] objects = new Double[n];
+        for (int i = 0; i < n; i++) {
+          objects[i] = 2.0 * keys[i] / n - 1.0;
+        }
+        return objects;
+      }
+      case STRING: {
+        String[] objects = new String[n];
+        for (int i = 0; i < n; i++) {
+          objects[i] = String.format("%010d", keys[i]);
+        }
+        return objects;
+      }
+      default:
+        throw new IllegalStateException(name());
+    }
+  }
+}
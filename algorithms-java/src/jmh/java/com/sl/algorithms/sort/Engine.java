@@ -0,0 +1,95 @@
+package com.sl.algorithms.sort;
+
+import static com.sl.algorithms.sort.generalpurpose.heap.HeapType.MAX_HEAP;
+
+import com.sl.algorithms.core.interfaces.select.PartitionScheme;
+import com.sl.algorithms.core.interfaces.sort.SortingEngine;
+import com.sl.algorithms.sort.finitegroups.bucketsort.AdaptiveBucketSort;
+import com.sl.algorithms.sort.finitegroups.bucketsort.FPBucketSort;
+import com.sl.algorithms.sort.finitegroups.integersorting.CountingSort;
+import com.sl.algorithms.sort.finitegroups.integersorting.RadixSort;
+import com.sl.algorithms.sort.finitegroups.stringsorting.AmericanFlagSort;
+import com.sl.algorithms.sort.generalpurpose.DualPivotQuickSort;
+import com.sl.algorithms.sort.generalpurpose.ParallelQuickSort;
+import com.sl.algorithms.sort.generalpurpose.QuickSort;
+import com.sl.algorithms.sort.generalpurpose.QuickSortMode;
+import com.sl.algorithms.sort.generalpurpose.SampleSort;
+import com.sl.algorithms.sort.generalpurpose.heap.HeapSort;
+import com.sl.algorithms.sort.generalpurpose.merge.BottomUpMergeSort;
+import com.sl.algorithms.sort.generalpurpose.merge.NaturalMergeSort;
+import com.sl.algorithms.sort.generalpurpose.merge.ParallelMergeSort;
+import com.sl.algorithms.sort.generalpurpose.merge.TopDownMergeSort;
+import com.sl.algorithms.sort.generalpurpose.smalldata.BubbleSort;
+import com.sl.algorithms.sort.generalpurpose.smalldata.InsertionSort;
+import com.sl.algorithms.sort.generalpurpose.smalldata.SelectionSort;
+
+/**
+ * <br>The {@link SortingEngine} implementations under benchmark.<br>
+ */
+@SuppressWarnings("unchecked")
+public enum Engine {
+  QUICK_SORT,
+  INTRO_SORT,
+  THREE_WAY_QUICK_SORT,
+  DUAL_PIVOT_QUICK_SORT,
+  PARALLEL_QUICK_SORT,
+  SAMPLE_SORT,
+  TOP_DOWN_MERGE_SORT,
+  PARALLEL_MERGE_SORT,
+  BOTTOM_UP_MERGE_SORT,
+  NATURAL_MERGE_SORT,
+  HEAP_SORT,
+  INSERTION_SORT,
+  SELECTION_SORT,
+  BUBBLE_SORT,
+  COUNTING_SORT,
+  RADIX_SORT,
+  FP_BUCKET_SORT,
+  ADAPTIVE_BUCKET_SORT,
+  AMERICAN_FLAG_SORT;
+
+  public SortingEngine<Comparable> create() {
+    switch (this) {
+      case QUICK_SORT:
+        return new QuickSort<>();
+      case INTRO_SORT:
+        return new QuickSort<>(QuickSortMode.INTROSPECTIVE);
+      case THREE_WAY_QUICK_SORT:
+        return new QuickSort<>(QuickSortMode.CLASSIC, PartitionScheme.THREE_WAY);
+      case DUAL_PIVOT_QUICK_SORT:
+        return new DualPivotQuickSort<>();
+      case PARALLEL_QUICK_SORT:
+        return new ParallelQuickSort<>();
+      case SAMPLE_SORT:
+        return new SampleSort<>();
+      case TOP_DOWN_MERGE_SORT:
+        return new TopDownMergeSort<>();
+      case PARALLEL_MERGE_SORT:
+        return new ParallelMergeSort<>();
+      case BOTTOM_UP_MERGE_SORT:
+        return new BottomUpMergeSort<>();
+      case NATURAL_MERGE_SORT:
+        return new NaturalMergeSort<>();
+      case HEAP_SORT:
+        return new HeapSort<>(MAX_HEAP);
+      case INSERTION_SORT:
+        return new InsertionSort<>();
+      case SELECTION_SORT:
+        return new SelectionSort<>();
+      case BUBBLE_SORT:
+        return new BubbleSort<>();
+      case COUNTING_SORT:
+        return new CountingSort();
+      case RADIX_SORT:
+        return new RadixSort();
+      case FP_BUCKET_SORT:
+        return new FPBucketSort();
+      case ADAPTIVE_BUCKET_SORT:
+        return new AdaptiveBucketSort();
+      case AMERICAN_FLAG_SORT:
+        return new AmericanFlagSort();
+      default:
+        throw new IllegalStateException(name());
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package com.sl.algorithms.sort;
+
+import com.sl.algorithms.core.interfaces.sort.SortingEngine;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * <br>Throughput of the finite-range sorts. Each engine only accepts a single element type, so the
+ * {@link ElementType} is implied by the engine rather than parameterised:
+ * <br>- COUNTING_SORT, RADIX_SORT: Integer keys.
+ * <br>- FP_BUCKET_SORT, ADAPTIVE_BUCKET_SORT: Double keys in [-1, 1).
+ * <br>- AMERICAN_FLAG_SORT: fixed-width, zero-padded String keys.<br>
+ *
+ * @see GeneralPurposeSortingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FiniteGroupSortingBenchmark {
+
+  @Param({"COUNTING_SORT", "RADIX_SORT", "FP_BUCKET_SORT", "ADAPTIVE_BUCKET_SORT",
+      "AMERICAN_FLAG_SORT"})
+  public Engine engine;
+
+  @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+  public int size;
+
+  @Param({"RANDOM", "SORTED", "REVERSED", "FEW_UNIQUE", "ORGAN_PIPE", "ZIPF"})
+  public Distribution distribution;
+
+  private SortingEngine<Comparable> sortingEngine;
+  private Comparable[] input;
+  private Comparable[] objects;
+
+  @Setup
+  public void setup() {
+    sortingEngine = engine.create();
+    int[] keys = distribution.generate(size);
+    ElementType elementType = ElementType.INTEGER;
+    if (engine == Engine.FP_BUCKET_SORT || engine == Engine.ADAPTIVE_BUCKET_SORT) {
+      elementType = ElementType.DOUBLE;
+    } else if (engine == Engine.AMERICAN_FLAG_SORT) {
+      elementType = ElementType.STRING;
+    }
+    input = elementType.box(keys);
+    objects = elementType.box(new int[size]);
+  }
+
+  @Benchmark
+  public Comparable[] sort() {
+    System.arraycopy(input, 0, objects, 0, size);
+    sortingEngine.sort(objects);
+    return objects;
+  }
+}
@@ -0,0 +1,61 @@
+package com.sl.algorithms.sort;
+
+import com.sl.algorithms.core.interfaces.sort.SortingEngine;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * <br>Throughput of the O(nlogn) comparison sorts, across input size, {@link Distribution} and
+ * {@link ElementType}.<br> <br><u>Note</u>:&nbsp;every invocation first restores the unsorted
+ * input, so {@link #copyOnly()} is the baseline to subtract for small sizes.<br>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GeneralPurposeSortingBenchmark {
+
+  @Param({"QUICK_SORT", "INTRO_SORT", "THREE_WAY_QUICK_SORT", "DUAL_PIVOT_QUICK_SORT",
+      "PARALLEL_QUICK_SORT", "SAMPLE_SORT", "TOP_DOWN_MERGE_SORT", "PARALLEL_MERGE_SORT",
+      "BOTTOM_UP_MERGE_SORT", "NATURAL_MERGE_SORT", "HEAP_SORT"})
+  public Engine engine;
+
+  @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+  public int size;
+
+  @Param({"RANDOM", "SORTED", "REVERSED", "FEW_UNIQUE", "ORGAN_PIPE", "ZIPF"})
+  public Distribution distribution;
+
+  @Param({"INTEGER", "DOUBLE", "STRING"})
+  public ElementType elementType;
+
+  private SortingEngine<Comparable> sortingEngine;
+  private Comparable[] input;
+  private Comparable[] objects;
+
+  @Setup
+  public void setup() {
+    sortingEngine = engine.create();
+    input = elementType.box(distribution.generate(size));
+    objects = new Comparable[size];
+  }
+
+  @Benchmark
+  public Comparable[] sort() {
+    System.arraycopy(input, 0, objects, 0, size);
+    sortingEngine.sort(objects);
+    return objects;
+  }
+
+  @Benchmark
+  public Comparable[] copyOnly() {
+    System.arraycopy(input, 0, objects, 0, size);
+    return objects;
+  }
+}
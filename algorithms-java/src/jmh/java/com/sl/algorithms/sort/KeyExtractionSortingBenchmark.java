@@ -0,0 +1,69 @@
+package com.sl.algorithms.sort;
+
+import com.sl.algorithms.core.interfaces.sort.SortingEngine;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * <br>Sorting by a key which is costly to derive (a number parsed out of a String): a Comparator
+ * derives the key on every comparison i.e. O(nlogn) times, the key-extraction sort derives it once
+ * per element, and sorts the packed (key, index) longs with the engine's own long[] path.<br>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class KeyExtractionSortingBenchmark {
+
+  private static final Comparator<String> BY_PARSED_KEY = Comparator
+      .comparingInt(KeyExtractionSortingBenchmark::parseKey);
+
+  @Param({"QUICK_SORT", "DUAL_PIVOT_QUICK_SORT", "TOP_DOWN_MERGE_SORT"})
+  public Engine engine;
+
+  @Param({"1000", "100000", "1000000"})
+  public int size;
+
+  @Param({"RANDOM", "FEW_UNIQUE"})
+  public Distribution distribution;
+
+  private SortingEngine<Comparable> sortingEngine;
+  private String[] input;
+  private String[] objects;
+
+  @Setup
+  public void setup() {
+    sortingEngine = engine.create();
+    int[] keys = distribution.generate(size);
+    input = new String[size];
+    for (int i = 0; i < size; i++) {
+      input[i] = "key=" + keys[i] + ";seq=" + i;
+    }
+    objects = new String[size];
+  }
+
+  @Benchmark
+  public String[] comparator() {
+    System.arraycopy(input, 0, objects, 0, size);
+    sortingEngine.sort(objects, BY_PARSED_KEY);
+    return objects;
+  }
+
+  @Benchmark
+  public String[] keyExtraction() {
+    System.arraycopy(input, 0, objects, 0, size);
+    sortingEngine.sortByIntKey(objects, KeyExtractionSortingBenchmark::parseKey);
+    return objects;
+  }
+
+  private static int parseKey(String s) {
+    return Integer.parseInt(s, 4, s.indexOf(';'), 10);
+  }
+}
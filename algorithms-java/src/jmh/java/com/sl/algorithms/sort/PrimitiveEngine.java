@@ -0,0 +1,70 @@
+package com.sl.algorithms.sort;
+
+import static com.sl.algorithms.sort.generalpurpose.heap.HeapType.MAX_HEAP;
+
+import com.sl.algorithms.core.interfaces.sort.PrimitiveSortingEngine;
+import com.sl.algorithms.sort.finitegroups.bucketsort.AdaptiveBucketSort;
+import com.sl.algorithms.sort.finitegroups.integersorting.ParallelRadixSort;
+import com.sl.algorithms.sort.finitegroups.integersorting.RadixSort;
+import com.sl.algorithms.sort.generalpurpose.DualPivotQuickSort;
+import com.sl.algorithms.sort.generalpurpose.QuickSort;
+import com.sl.algorithms.sort.generalpurpose.QuickSortMode;
+import com.sl.algorithms.sort.generalpurpose.heap.HeapSort;
+import com.sl.algorithms.sort.generalpurpose.merge.TopDownMergeSort;
+import java.util.Arrays;
+
+/**
+ * <br>The {@link PrimitiveSortingEngine} implementations under benchmark, plus
+ * {@link Arrays#sort(int[])} as the baseline to compare against.<br>
+ */
+public enum PrimitiveEngine {
+  QUICK_SORT,
+  INTRO_SORT,
+  DUAL_PIVOT_QUICK_SORT,
+  TOP_DOWN_MERGE_SORT,
+  HEAP_SORT,
+  RADIX_SORT,
+  PARALLEL_RADIX_SORT,
+  ADAPTIVE_BUCKET_SORT,
+  JDK;
+
+  public PrimitiveSortingEngine create() {
+    switch (this) {
+      case QUICK_SORT:
+        return new QuickSort<>();
+      case INTRO_SORT:
+        return new QuickSort<>(QuickSortMode.INTROSPECTIVE);
+      case DUAL_PIVOT_QUICK_SORT:
+        return new DualPivotQuickSort<>();
+      case TOP_DOWN_MERGE_SORT:
+        return new TopDownMergeSort<>();
+      case HEAP_SORT:
+        return new HeapSort<>(MAX_HEAP);
+      case RADIX_SORT:
+        return new RadixSort<>();
+      case PARALLEL_RADIX_SORT:
+        return new ParallelRadixSort<>();
+      case ADAPTIVE_BUCKET_SORT:
+        return new AdaptiveBucketSort<>();
+      case JDK:
+        return new PrimitiveSortingEngine() {
+          @Override
+          public void sort(int[] nums) {
+            Arrays.sort(nums);
+          }
+
+          @Override
+          public void sort(long[] nums) {
+            Arrays.sort(nums);
+          }
+
+          @Override
+          public void sort(double[] nums) {
+            Arrays.sort(nums);
+          }
+        };
+      default:
+        throw new IllegalStateException(name());
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.sl.algorithms.sort;
+
+import com.sl.algorithms.core.interfaces.sort.PrimitiveSortingEngine;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * <br>Throughput of the int[], long[] and double[] sorts, against {@link PrimitiveEngine#JDK} as
+ * the baseline.<br>
+ *
+ * @see GeneralPurposeSortingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PrimitiveSortingBenchmark {
+
+  @Param({"QUICK_SORT", "INTRO_SORT", "DUAL_PIVOT_QUICK_SORT", "TOP_DOWN_MERGE_SORT", "HEAP_SORT",
+      "RADIX_SORT", "PARALLEL_RADIX_SORT", "ADAPTIVE_BUCKET_SORT", "JDK"})
+  public PrimitiveEngine engine;
+
+  @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+  public int size;
+
+  @Param({"RANDOM", "SORTED", "REVERSED", "FEW_UNIQUE", "ORGAN_PIPE", "ZIPF"})
+  public Distribution distribution;
+
+  private PrimitiveSortingEngine sortingEngine;
+  private int[] intInput;
+  private int[] ints;
+  private long[] longInput;
+  private long[] longs;
+  private double[] doubleInput;
+  private double[] doubles;
+
+  @Setup
+  public void setup() {
+    sortingEngine = engine.create();
+    intInput = distribution.generate(size);
+    longInput = new long[size];
+    doubleInput = new double[size];
+    for (int i = 0; i < size; i++) {
+      longInput[i] = (long) intInput[i] << 31;
+      doubleInput[i] = 2.0 * intInput[i] / size - 1.0;
+    }
+    ints = new int[size];
+    longs = new long[size];
+    doubles = new double[size];
+  }
+
+  @Benchmark
+  public int[] sortInts() {
+    System.arraycopy(intInput, 0, ints, 0, size);
+    sortingEngine.sort(ints);
+    return ints;
+  }
+
+  @Benchmark
+  public long[] sortLongs() {
+    System.arraycopy(longInput, 0, longs, 0, size);
+    sortingEngine.sort(longs);
+    return longs;
+  }
+
+  @Benchmark
+  public double[] sortDoubles() {
+    System.arraycopy(doubleInput, 0, doubles, 0, size);
+    sortingEngine.sort(doubles);
+    return doubles;
+  }
+}
@@ -0,0 +1,54 @@
+package com.sl.algorithms.sort;
+
+import com.sl.algorithms.core.interfaces.sort.SortingEngine;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * <br>Throughput of the quadratic sorts, capped at sizes where a run completes in reasonable
+ * time.<br>
+ *
+ * @see GeneralPurposeSortingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SmallDataSortingBenchmark {
+
+  @Param({"INSERTION_SORT", "SELECTION_SORT", "BUBBLE_SORT"})
+  public Engine engine;
+
+  @Param({"1000", "10000"})
+  public int size;
+
+  @Param({"RANDOM", "SORTED", "REVERSED", "FEW_UNIQUE", "ORGAN_PIPE", "ZIPF"})
+  public Distribution distribution;
+
+  @Param({"INTEGER", "DOUBLE", "STRING"})
+  public ElementType elementType;
+
+  private SortingEngine<Comparable> sortingEngine;
+  private Comparable[] input;
+  private Comparable[] objects;
+
+  @Setup
+  public void setup() {
+    sortingEngine = engine.create();
+    input = elementType.box(distribution.generate(size));
+    objects = new Comparable[size];
+  }
+
+  @Benchmark
+  public Comparable[] sort() {
+    System.arraycopy(input, 0, objects, 0, size);
+    sortingEngine.sort(objects);
+    return objects;
+  }
+}
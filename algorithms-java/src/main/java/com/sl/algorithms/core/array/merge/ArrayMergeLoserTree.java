@@ -0,0 +1,141 @@
+package com.sl.algorithms.core.array.merge;
+
+import com.sl.algorithms.core.interfaces.merge.ArrayMergeEngine;
+import java.util.function.LongConsumer;
+
+/**
+ * <br>k-way merge of sorted long[] arrays, with a tournament tree of losers.<br>
+ * <br><u>Loser tree</u>:&nbsp;the k arrays are the leaves, k..2k-1, of a complete binary tree;
+ * every internal node, 1..k-1, keeps the loser of the match played below it, and the overall
+ * winner is kept aside. Once the winner is taken out, only the matches on the path from its leaf
+ * to the root are replayed, each against the stored loser: log2(k) comparisons per element,
+ * whereas a binary heap does up to 2*log2(k) to sift down.<br>
+ * <br><u>Ties</u>:&nbsp;an array that is exhausted loses every match; between equal values, the
+ * lower array index wins, which keeps the merge stable.<br>
+ * <br><u>Complexity</u>: O(n*logk) time for n elements in all; O(k) auxiliary space.<br>
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/K-way_merge_algorithm#Tournament_Tree">Tournament
+ * Tree</a>
+ */
+public class ArrayMergeLoserTree implements ArrayMergeEngine {
+
+  @Override
+  public void mergeKSortedArrays(long[][] sortedArrays, long[] output, int offset) {
+    long n = totalLength(sortedArrays);
+    checkOutput(output, offset, n);
+    merge(sortedArrays, new int[sortedArrays.length], lengths(sortedArrays), output, offset);
+  }
+
+  @Override
+  public void mergeKSortedArrays(long[][] sortedArrays, LongConsumer sink) {
+    totalLength(sortedArrays);
+    if (sink == null) {
+      throw new IllegalArgumentException("sink is null");
+    }
+    LoserTree tree = new LoserTree(sortedArrays, new int[sortedArrays.length],
+        lengths(sortedArrays));
+    while (tree.hasNext()) {
+      sink.accept(tree.next());
+    }
+  }
+
+  /**
+   * <br>Merge the ranges [from[i], to[i]) of the sorted arrays into output, from offset on.<br>
+   */
+  protected void merge(long[][] sortedArrays, int[] from, int[] to, long[] output, int offset) {
+    LoserTree tree = new LoserTree(sortedArrays, from, to);
+    for (int i = offset; tree.hasNext(); i++) {
+      output[i] = tree.next();
+    }
+  }
+
+  protected static void checkOutput(long[] output, int offset, long n) {
+    if (output == null) {
+      throw new IllegalArgumentException("output is null");
+    }
+    if (offset < 0 || offset + n > output.length) {
+      throw new IllegalArgumentException("output is too small: " + output.length
+          + ", for " + n + " elements from index " + offset);
+    }
+  }
+
+  protected static int[] lengths(long[][] sortedArrays) {
+    int[] lengths = new int[sortedArrays.length];
+    for (int i = 0; i < sortedArrays.length; i++) {
+      lengths[i] = sortedArrays[i].length;
+    }
+    return lengths;
+  }
+
+  private static class LoserTree {
+
+    private final long[][] arrays;
+    private final int[] pos;
+    private final int[] end;
+    private final long[] heads; // arrays[i][pos[i]], while pos[i] < end[i]
+    private final int[] losers;
+    private final int arrayCount;
+    private int winner;
+
+    LoserTree(long[][] arrays, int[] from, int[] to) {
+      this.arrays = arrays;
+      this.arrayCount = arrays.length;
+      this.pos = from.clone();
+      this.end = to;
+      this.heads = new long[arrayCount];
+      for (int i = 0; i < arrayCount; i++) {
+        if (pos[i] < end[i]) {
+          heads[i] = arrays[i][pos[i]];
+        }
+      }
+      this.losers = new int[arrayCount];
+      this.winner = arrayCount == 0 ? -1 : play(1);
+    }
+
+    // initial tournament of the subtree at node: the winner goes up, the loser stays
+    private int play(int node) {
+      if (node >= arrayCount) {
+        return node - arrayCount;
+      }
+      int left = play(2 * node);
+      int right = play(2 * node + 1);
+      if (beats(right, left)) {
+        losers[node] = left;
+        return right;
+      }
+      losers[node] = right;
+      return left;
+    }
+
+    private boolean beats(int a, int b) {
+      if (pos[a] == end[a]) {
+        return false;
+      }
+      if (pos[b] == end[b]) {
+        return true;
+      }
+      return heads[a] < heads[b] || (heads[a] == heads[b] && a < b);
+    }
+
+    boolean hasNext() {
+      return winner >= 0 && pos[winner] < end[winner];
+    }
+
+    long next() {
+      int w = winner;
+      long value = heads[w];
+      if (++pos[w] < end[w]) {
+        heads[w] = arrays[w][pos[w]];
+      }
+      for (int node = (w + arrayCount) >>> 1; node > 0; node >>>= 1) {
+        int loser = losers[node];
+        if (beats(loser, w)) {
+          losers[node] = w;
+          w = loser;
+        }
+      }
+      winner = w;
+      return value;
+    }
+  }
+}
@@ -0,0 +1,151 @@
+package com.sl.algorithms.core.array.merge;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * <br>{@link ArrayMergeLoserTree} that splits the output into independent parts, one per thread,
+ * and merges them concurrently.<br>
+ * <br><u>Steps</u>: <br>(1) draw {@link #OVERSAMPLING} elements per part from the arrays, evenly
+ * spaced by their rank in the arrays laid end to end: every array is sampled in proportion to its
+ * length, and with far more arrays than samples, each sample still stands for as many elements
+ * as any other. Sort them, and take every OVERSAMPLING-th one as a splitter. <br>(2) binary
+ * search every splitter in every array: part j gets, of each array, the elements in
+ * [splitter[j-1], splitter[j]), and its place in the output starts at the count of all the
+ * elements before it. <br>(3) merge every part with a loser tree of its own, concurrently.<br>
+ * <br><u>Ties</u>:&nbsp;all the elements equal to a splitter fall into the same part, so the merge
+ * stays stable.<br>
+ * <br><u>Note</u>:&nbsp;streaming to a sink is sequential, as the sink gets one element at a
+ * time.<br>
+ * <br><u>Complexity</u>: O(n*logk/p) time on p cores, plus O(p*k*logn) for the splitters.<br>
+ */
+public class ParallelArrayMergeLoserTree extends ArrayMergeLoserTree {
+
+  /**
+   * Parts smaller than this are not worth the overhead of a task.
+   */
+  public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+  static final int OVERSAMPLING = 32;
+
+  private final int parallelThreshold;
+  private final ForkJoinPool pool;
+
+  public ParallelArrayMergeLoserTree() {
+    this(DEFAULT_PARALLEL_THRESHOLD);
+  }
+
+  public ParallelArrayMergeLoserTree(int parallelThreshold) {
+    this(parallelThreshold, ForkJoinPool.commonPool());
+  }
+
+  public ParallelArrayMergeLoserTree(int parallelThreshold, ForkJoinPool pool) {
+    if (parallelThreshold < 1) {
+      throw new IllegalArgumentException("parallelThreshold must be at least 1");
+    }
+    if (pool == null) {
+      throw new IllegalArgumentException("pool is null");
+    }
+    this.parallelThreshold = parallelThreshold;
+    this.pool = pool;
+  }
+
+  @Override
+  public void mergeKSortedArrays(long[][] sortedArrays, long[] output, int offset) {
+    long n = totalLength(sortedArrays);
+    checkOutput(output, offset, n);
+    int parts = (int) Math.min(pool.getParallelism(), n / parallelThreshold);
+    if (parts < 2 || sortedArrays.length < 2) {
+      super.mergeKSortedArrays(sortedArrays, output, offset);
+      return;
+    }
+    int[][] bounds = bounds(sortedArrays, n, parts);
+    forEach(parts, j -> {
+      int start = offset;
+      for (int bound : bounds[j]) {
+        start += bound;
+      }
+      merge(sortedArrays, bounds[j], bounds[j + 1], output, start);
+    });
+  }
+
+  /**
+   * @return bounds[j]: start of part j in every array, for j in [0, parts]
+   */
+  static int[][] bounds(long[][] sortedArrays, long n, int parts) {
+    long[] splitters = splitters(sortedArrays, n, parts);
+    int[][] bounds = new int[parts + 1][];
+    bounds[0] = new int[sortedArrays.length];
+    bounds[parts] = lengths(sortedArrays);
+    for (int j = 1; j < parts; j++) {
+      bounds[j] = new int[sortedArrays.length];
+      for (int i = 0; i < sortedArrays.length; i++) {
+        bounds[j][i] = lowerBound(sortedArrays[i], splitters[j - 1]);
+      }
+    }
+    return bounds;
+  }
+
+  private static long[] splitters(long[][] sortedArrays, long n, int parts) {
+    int samples = (int) Math.min((long) parts * OVERSAMPLING, n);
+    long[] sample = new long[samples];
+    int i = 0;
+    long first = 0; // rank of the first element of sortedArrays[i]
+    for (int t = 0; t < samples; t++) {
+      long rank = (2L * t + 1) * n / (2L * samples); // middle of the t-th of the equal slices
+      while (rank >= first + sortedArrays[i].length) {
+        first += sortedArrays[i++].length;
+      }
+      sample[t] = sortedArrays[i][(int) (rank - first)];
+    }
+    Arrays.sort(sample);
+    long[] splitters = new long[parts - 1];
+    for (int j = 1; j < parts; j++) {
+      splitters[j - 1] = sample[j * samples / parts];
+    }
+    return splitters;
+  }
+
+  // index of the first element >= key, or sortedArray.length
+  private static int lowerBound(long[] sortedArray, long key) {
+    int lo = 0;
+    int hi = sortedArray.length;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (sortedArray[mid] < key) {
+        lo = mid + 1;
+      } else {
+        hi = mid;
+      }
+    }
+    return lo;
+  }
+
+  private void forEach(int tasks, IntConsumer body) {
+    pool.invoke(new ForEachTask(0, tasks, body));
+  }
+
+  private static class ForEachTask extends RecursiveAction {
+
+    private final int start;
+    private final int end;
+    private final IntConsumer body;
+
+    ForEachTask(int start, int end, IntConsumer body) {
+      this.start = start;
+      this.end = end;
+      this.body = body;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start == 1) {
+        body.accept(start);
+        return;
+      }
+      int m = (start + end) >>> 1;
+      invokeAll(new ForEachTask(start, m, body), new ForEachTask(m, end, body));
+    }
+  }
+}
@@ -1,10 +1,11 @@
 package com.sl.algorithms.core.interfaces.base;
 
 import com.sl.algorithms.core.list.ListNode;
+import java.util.Comparator;
 
 public interface BaseInterface<T extends Comparable> extends Constants {
 
-  default void checkArray(T[] objects) {
+  default void checkArray(Object[] objects) {
     if (objects == null || objects.length == 0) {
       throw new IllegalArgumentException(ARRAY_IS_EMPTY);
     }
@@ -21,4 +22,25 @@ public interface BaseInterface<T extends Comparable> extends Constants {
       throw new IllegalArgumentException(LIST_IS_EMPTY);
     }
   }
+
+  default void checkComparator(Comparator<?> comparator) {
+    if (comparator == null) {
+      throw new IllegalArgumentException(COMPARATOR_IS_NULL);
+    }
+  }
+
+  default void checkKeyExtractor(Object keyExtractor) {
+    if (keyExtractor == null) {
+      throw new IllegalArgumentException(KEY_EXTRACTOR_IS_NULL);
+    }
+  }
+
+  /**
+   * <br>{@link Comparable#compareTo(Object)} as a {@link Comparator}, for the Comparable entry
+   * points to delegate to the Comparator based ones.<br>
+   */
+  @SuppressWarnings("unchecked")
+  default Comparator<T> naturalOrder() {
+    return (o1, o2) -> o1.compareTo(o2);
+  }
 }
@@ -4,6 +4,8 @@ public interface Constants {
 
   String ARRAY_IS_EMPTY = "Array is empty";
   String LIST_IS_EMPTY = "List is empty";
+  String COMPARATOR_IS_NULL = "Comparator is null";
+  String KEY_EXTRACTOR_IS_NULL = "Key extractor is null";
   String DATA_TYPE_NOT_SUPPORTED_YET = "Input has data-type which is not supported yet";
   String OPERATION_NOT_SUPPORTED_YET = "This operation is not supported yet.";
   String DELIMITER_COMMA = ",";
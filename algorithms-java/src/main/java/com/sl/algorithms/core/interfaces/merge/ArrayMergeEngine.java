@@ -0,0 +1,55 @@
+package com.sl.algorithms.core.interfaces.merge;
+
+import com.sl.algorithms.core.interfaces.base.Constants;
+import java.util.function.LongConsumer;
+
+/**
+ * <br>Merge k sorted long[] arrays into one sorted sequence; the array counterpart of
+ * {@link MergeEngine}.<br> <br><u>Order</u>:&nbsp;ascending and stable i.e. among equal
+ * values, those of sortedArrays[i] come before those of sortedArrays[i+1].<br>
+ */
+public interface ArrayMergeEngine extends Constants {
+
+  /**
+   * @return a new array, with all the elements of the sorted arrays
+   */
+  default long[] mergeKSortedArrays(long[][] sortedArrays) {
+    long n = totalLength(sortedArrays);
+    if (n > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException("more elements than an array can hold: " + n);
+    }
+    long[] output = new long[(int) n];
+    mergeKSortedArrays(sortedArrays, output, 0);
+    return output;
+  }
+
+  /**
+   * <br>Merge into a preallocated array.<br>
+   *
+   * @param output array to merge into, at [offset, offset + total length of the sorted arrays)
+   * @param offset index of the first merged element in output
+   */
+  void mergeKSortedArrays(long[][] sortedArrays, long[] output, int offset);
+
+  /**
+   * <br>Stream the merged elements to a sink, in order, one at a time.<br>
+   */
+  void mergeKSortedArrays(long[][] sortedArrays, LongConsumer sink);
+
+  /**
+   * @return total count of the elements, after checking that the arrays can be merged
+   */
+  default long totalLength(long[][] sortedArrays) {
+    if (sortedArrays == null) {
+      throw new IllegalArgumentException(ARRAY_IS_EMPTY);
+    }
+    long n = 0;
+    for (long[] sortedArray : sortedArrays) {
+      if (sortedArray == null) {
+        throw new IllegalArgumentException(ARRAY_IS_EMPTY);
+      }
+      n += sortedArray.length;
+    }
+    return n;
+  }
+}
@@ -2,10 +2,28 @@ package com.sl.algorithms.core.interfaces.merge;
 
 import com.sl.algorithms.core.interfaces.base.BaseInterface;
 import com.sl.algorithms.core.list.ListNode;
+import java.util.Comparator;
 
 public interface MergeEngine<T extends Comparable> extends BaseInterface<T> {
 
   ListNode<T> mergeKSortedLists(ListNode<T>[] sortedListsArray);
 
+  /**
+   * <br>Same as {@link #mergeKSortedLists(ListNode[])}, for lists sorted by the comparator.<br>
+   */
+  default ListNode<T> mergeKSortedLists(ListNode<T>[] sortedListsArray,
+      Comparator<? super T> comparator) {
+    throw new UnsupportedOperationException(OPERATION_NOT_SUPPORTED_YET);
+  }
+
   ListNode<T> merge2SortedLists(ListNode<T> list1, ListNode<T> list2);
+
+  /**
+   * <br>Same as {@link #merge2SortedLists(ListNode, ListNode)}, for lists sorted by the
+   * comparator; on a tie, the node of list1 goes first.<br>
+   */
+  default ListNode<T> merge2SortedLists(ListNode<T> list1, ListNode<T> list2,
+      Comparator<? super T> comparator) {
+    throw new UnsupportedOperationException(OPERATION_NOT_SUPPORTED_YET);
+  }
 }
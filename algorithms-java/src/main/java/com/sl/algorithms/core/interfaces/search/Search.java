@@ -1,8 +1,17 @@
 package com.sl.algorithms.core.interfaces.search;
 
 import com.sl.algorithms.core.interfaces.base.BaseInterface;
+import java.util.Comparator;
 
 public interface Search<T extends Comparable> extends BaseInterface<T> {
 
   int findIndex(T[] inputArray, T targetElement);
+
+  /**
+   * <br>Same as {@link #findIndex(Comparable[], Comparable)}, with the input ordered by the
+   * comparator; an element matches when the comparator finds it equal to the target.<br>
+   */
+  default <E> int findIndex(E[] inputArray, E targetElement, Comparator<? super E> comparator) {
+    throw new UnsupportedOperationException(OPERATION_NOT_SUPPORTED_YET);
+  }
 }
@@ -1,5 +1,7 @@
 package com.sl.algorithms.core.interfaces.select;
 
+import java.util.Comparator;
+
 /**
  * <br>Given an array A = A[1,...,n] and an index kMax (1 ≤ kMax ≤ n), find the kth smallest
  * element
@@ -26,13 +28,29 @@ public interface MedianFinder<T extends Comparable> extends QuickSelect<T> {
      */
   }
 
+  default <E> E findMedian(E[] objects, Comparator<? super E> comparator) {
+    checkArray(objects);
+    int n = objects.length;
+    return findKthSmallest(objects, n / 2 + n % 2, comparator);
+  }
+
   default T findMinimum(T[] objects) {
     checkArray(objects);
     return findKthSmallest(objects, 1);
   }
 
+  default <E> E findMinimum(E[] objects, Comparator<? super E> comparator) {
+    checkArray(objects);
+    return findKthSmallest(objects, 1, comparator);
+  }
+
   default T findMaximum(T[] objects) {
     checkArray(objects);
     return findKthSmallest(objects, objects.length);
   }
+
+  default <E> E findMaximum(E[] objects, Comparator<? super E> comparator) {
+    checkArray(objects);
+    return findKthSmallest(objects, objects.length, comparator);
+  }
 }
@@ -0,0 +1,18 @@
+package com.sl.algorithms.core.interfaces.select;
+
+/**
+ * <br>How {@link QuickSelect} splits a range around the pivot.<br>
+ */
+public enum PartitionScheme {
+  /**
+   * Lomuto partition: [&lt; pivot | pivot | &gt;= pivot], keys equal to the pivot keep being
+   * partitioned, hence O(n^2) when there are few distinct keys.
+   */
+  TWO_WAY,
+  /**
+   * <a href="https://en.wikipedia.org/wiki/Dutch_national_flag_problem">Dijkstra</a> partition:
+   * [&lt; pivot | == pivot | &gt; pivot], the equal block is in its final place and drops out of
+   * any further partitioning, hence O(n) for a constant number of distinct keys.
+   */
+  THREE_WAY;
+}
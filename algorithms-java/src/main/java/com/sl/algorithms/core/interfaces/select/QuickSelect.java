@@ -4,6 +4,7 @@ import static com.sl.algorithms.core.utils.ArrayOps.swap;
 
 import com.sl.algorithms.core.interfaces.base.BaseInterface;
 import com.sl.algorithms.core.utils.Formulas;
+import java.util.Comparator;
 
 /**
  * <p>Find kth largest/smallest element in an unsorted array, in Linear time as average-case.</p>
@@ -11,12 +12,15 @@ import com.sl.algorithms.core.utils.Formulas;
  * href="https://www.geeksforgeeks.org/quickselect-algorithm/">Reference 2</a> <br>Time : O(N)
  * average case, O(N^2) worst case <br>Space: O(1)
  */
-@SuppressWarnings("unchecked") //compareTo
 public interface QuickSelect<T extends Comparable> extends BaseInterface<T> {
 
   default T findKthLargest(T[] objects, int k) {
+    return findKthLargest(objects, k, naturalOrder());
+  }
+
+  default <E> E findKthLargest(E[] objects, int k, Comparator<? super E> comparator) {
     checkArray(objects);
-    return findKthSmallest(objects, objects.length - k + 1);
+    return findKthSmallest(objects, objects.length - k + 1, comparator);
   }
 
   /**
@@ -27,13 +31,25 @@ public interface QuickSelect<T extends Comparable> extends BaseInterface<T> {
    * @return kth smallest element in objects
    */
   default T findKthSmallest(T[] objects, int k) {
+    return findKthSmallest(objects, k, naturalOrder());
+  }
+
+  /**
+   * <br>Same as {@link #findKthSmallest(Comparable[], int)}, in the order of the comparator.<br>
+   */
+  default <E> E findKthSmallest(E[] objects, int k, Comparator<? super E> comparator) {
     checkArray(objects);
+    checkComparator(comparator);
     int n = objects.length;
     kCheck(n, k);
     if (n == 1) {
       return objects[0];
     }
-    return quickSelect(objects, k, 0, n);
+    return quickSelect(objects, k, 0, n, comparator);
+  }
+
+  default T quickSelect(T[] objects, int k, int s, int e) {
+    return quickSelect(objects, k, s, e, naturalOrder());
   }
 
   /**
@@ -43,13 +59,28 @@ public interface QuickSelect<T extends Comparable> extends BaseInterface<T> {
    * @param k 3rd smallest = 3, when objects:[1,2,3,4,5] and k=3
    * @param s start index (inclusive)
    * @param e end index (inclusive)
+   * @param comparator order of the elements
    * @return kth element
    */
-  default T quickSelect(T[] objects, int k, int s, int e) {
+  default <E> E quickSelect(E[] objects, int k, int s, int e, Comparator<? super E> comparator) {
     k--; // because 1 <= kMax <= N, while an array starts from 0 index
     e--; // to prevent overflow
+    if (partitionScheme() == PartitionScheme.THREE_WAY) {
+      while (s < e) {
+        int[] equal = threeWayPartition(objects, s, e, medianOf3(objects, s, e, comparator),
+            comparator);
+        if (k < equal[0]) {
+          e = equal[0] - 1;
+        } else if (k > equal[1]) {
+          s = equal[1] + 1;
+        } else {
+          break;
+        }
+      }
+      return objects[k];
+    }
     while (s < e) {
-      int p = pivotSort(objects, s, e, medianOf3(objects, s, e));
+      int p = pivotSort(objects, s, e, medianOf3(objects, s, e, comparator), comparator);
       if (p == k) {
         break;
       } else if (p > k) {
@@ -61,6 +92,10 @@ public interface QuickSelect<T extends Comparable> extends BaseInterface<T> {
     return objects[k];
   }
 
+  default int pivotSort(T[] a, int s, int e, int p) {
+    return pivotSort(a, s, e, p, naturalOrder());
+  }
+
   /**
    * <br>Core Algorithm to sort one side of the pivot.<br>
    *
@@ -68,14 +103,15 @@ public interface QuickSelect<T extends Comparable> extends BaseInterface<T> {
    * @param s start index (inclusive)
    * @param e end index (inclusive)
    * @param p initial pivot
+   * @param comparator order of the elements
    * @return pivot index after sort
    */
-  default int pivotSort(T[] a, int s, int e, int p) {
-    T pivotValue = a[p];
+  default <E> int pivotSort(E[] a, int s, int e, int p, Comparator<? super E> comparator) {
+    E pivotValue = a[p];
     swap(a, p, e); // move pivot to end
     p = s;
     for (int i = s; i < e; i++) {
-      if (a[i].compareTo(pivotValue) < 0) {
+      if (comparator.compare(a[i], pivotValue) < 0) {
         swap(a, i, p);
         p++;
       }
@@ -84,27 +120,72 @@ public interface QuickSelect<T extends Comparable> extends BaseInterface<T> {
     return p;
   }
 
+  /**
+   * <br>Partitioning used by {@link #quickSelect(Comparable[], int, int, int)}, two-way unless
+   * overridden.<br>
+   */
+  default PartitionScheme partitionScheme() {
+    return PartitionScheme.TWO_WAY;
+  }
+
+  default int[] threeWayPartition(T[] a, int s, int e, int p) {
+    return threeWayPartition(a, s, e, p, naturalOrder());
+  }
+
+  /**
+   * <br>Dijkstra's 3-way partition: a[s..lt) &lt; pivot, a[lt..gt] == pivot, a(gt..e] &gt;
+   * pivot.<br>
+   *
+   * @param a input array
+   * @param s start index (inclusive)
+   * @param e end index (inclusive)
+   * @param p initial pivot
+   * @param comparator order of the elements
+   * @return {lt, gt}, the bounds (inclusive) of the block equal to the pivot
+   */
+  default <E> int[] threeWayPartition(E[] a, int s, int e, int p,
+      Comparator<? super E> comparator) {
+    E pivotValue = a[p];
+    int lt = s;
+    int gt = e;
+    int i = s;
+    while (i <= gt) {
+      int cmp = comparator.compare(a[i], pivotValue);
+      if (cmp < 0) {
+        swap(a, lt++, i++);
+      } else if (cmp > 0) {
+        swap(a, i, gt--);
+      } else {
+        i++;
+      }
+    }
+    return new int[]{lt, gt};
+  }
+
+  default int medianOf3(T[] a, int s, int e) {
+    return medianOf3(a, s, e, naturalOrder());
+  }
+
   /**
    * <br><a href="https://stackoverflow.com/a/7560859/5775247">Median of 3 strategy</a>
    *
    * @param a input array
    * @param s start index (inclusive)
    * @param e end index (inclusive)
+   * @param comparator order of the elements
    * @return median index
    */
-  default int medianOf3(T[] a, int s, int e) {
+  default <E> int medianOf3(E[] a, int s, int e, Comparator<? super E> comparator) {
     int m = Formulas.midPoint(s, e);
-    T left = a[s];
-    T mid = a[m];
-    T right = a[e];
-    if (mid.compareTo(left) < 0) {
+    // sort the 3 in place, re-reading after each swap, so that a[s] <= a[m] <= a[e]
+    if (comparator.compare(a[m], a[s]) < 0) {
       swap(a, s, m);
     }
-    if (right.compareTo(mid) < 0) {
+    if (comparator.compare(a[e], a[m]) < 0) {
       swap(a, m, e);
-    }
-    if (right.compareTo(left) < 0) {
-      swap(a, s, e);
+      if (comparator.compare(a[m], a[s]) < 0) {
+        swap(a, s, m);
+      }
     }
     return m;
   }
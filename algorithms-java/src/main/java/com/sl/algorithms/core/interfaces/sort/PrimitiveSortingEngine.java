@@ -0,0 +1,90 @@
+package com.sl.algorithms.core.interfaces.sort;
+
+import com.sl.algorithms.core.interfaces.base.Constants;
+
+/**
+ * <br>Sort entry points for primitive arrays.<br> <br>Sorting an int[] directly avoids boxing
+ * every element into an {@link Integer}, the pointer-chasing on each compareTo and ~4x the
+ * memory.<br> <br><u>Order</u>:&nbsp;ascending; for double[], the order is that of
+ * {@link Double#compare(double, double)} i.e. -0.0 before 0.0 and NaNs at the end.<br>
+ *
+ * @see SortingEngine
+ */
+public interface PrimitiveSortingEngine extends Constants {
+
+  void sort(int[] nums);
+
+  void sort(long[] nums);
+
+  void sort(double[] nums);
+
+  default void checkArray(int[] nums) {
+    if (nums == null || nums.length == 0) {
+      throw new IllegalArgumentException(ARRAY_IS_EMPTY);
+    }
+  }
+
+  default void checkArray(long[] nums) {
+    if (nums == null || nums.length == 0) {
+      throw new IllegalArgumentException(ARRAY_IS_EMPTY);
+    }
+  }
+
+  default void checkArray(double[] nums) {
+    if (nums == null || nums.length == 0) {
+      throw new IllegalArgumentException(ARRAY_IS_EMPTY);
+    }
+  }
+
+  /**
+   * <br>A sort driven by the primitive '&lt;' operator has no place for NaN (every comparison
+   * with it is false), so NaNs are moved to the tail before the sort.<br>
+   *
+   * @param nums input array
+   * @return count of the non-NaN elements, which are the ones left to sort i.e. [0, n)
+   */
+  default int moveNaNsToEnd(double[] nums) {
+    int n = nums.length;
+    int i = 0;
+    while (i < n) {
+      if (Double.isNaN(nums[i])) {
+        nums[i] = nums[--n];
+        nums[n] = Double.NaN;
+      } else {
+        i++;
+      }
+    }
+    return n;
+  }
+
+  /**
+   * <br>'&lt;' treats -0.0 and 0.0 as equal, so after the sort they are mixed up within a single
+   * block of zeros; re-write that block with all the -0.0 first.<br>
+   *
+   * @param nums array sorted in the range [0, n)
+   * @param n count of the non-NaN elements
+   */
+  default void orderSignedZeros(double[] nums, int n) {
+    int s = 0;
+    int e = n;
+    while (s < e) { // first index with nums[i] >= 0.0
+      int m = (s + e) >>> 1;
+      if (nums[m] < 0.0) {
+        s = m + 1;
+      } else {
+        e = m;
+      }
+    }
+    int negativeZeros = 0;
+    e = s;
+    while (e < n && nums[e] == 0.0) {
+      if (Double.doubleToRawLongBits(nums[e]) != 0L) {
+        negativeZeros++;
+      }
+      e++;
+    }
+    for (int i = s; i < e; i++) {
+      nums[i] = (i - s < negativeZeros) ? -0.0 : 0.0;
+    }
+  }
+}
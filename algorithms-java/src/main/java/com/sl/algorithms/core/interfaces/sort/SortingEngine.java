@@ -2,6 +2,11 @@ package com.sl.algorithms.core.interfaces.sort;
 
 import com.sl.algorithms.core.interfaces.base.BaseInterface;
 import com.sl.algorithms.core.list.ListNode;
+import com.sl.algorithms.core.utils.KeySortOps;
+import java.util.Comparator;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * @param <T> : comparable object
@@ -10,5 +15,73 @@ public interface SortingEngine<T extends Comparable> extends BaseInterface<T> {
 
   void sort(T[] objects);
 
+  /**
+   * <br>Sort by an arbitrary order, in place, for elements which are not (or not by this key)
+   * Comparable.<br>
+   *
+   * @param objects array to be sorted
+   * @param comparator order to sort by
+   * @param <E> element type
+   */
+  default <E> void sort(E[] objects, Comparator<? super E> comparator) {
+    throw new UnsupportedOperationException(OPERATION_NOT_SUPPORTED_YET);
+  }
+
+  /**
+   * <br>Key-extraction sort, for elements with a costly compareTo: the key of every element is
+   * extracted exactly once, and the sort compares primitive keys only.<br>
+   * <br><u>Order</u>:&nbsp;ascending by key, stable i.e. elements with equal keys retain their
+   * input order, whatever the order and stability of the engine itself.<br>
+   * <br><u>Engine</u>:&nbsp;every key is packed with the index of its element into one long, and
+   * the longs are sorted by the engine's own long[] path when it is a
+   * {@link PrimitiveSortingEngine}; the packed longs are distinct, so even a non-stable engine
+   * keeps equal keys in their input order, and a descending engine is told by the ends of the
+   * sorted longs.<br>
+   *
+   * @param objects array to be sorted
+   * @param keyExtractor sort key of an element
+   * @param <E> element type
+   * @see KeySortOps
+   */
+  default <E> void sortByIntKey(E[] objects, ToIntFunction<? super E> keyExtractor) {
+    checkArray(objects);
+    checkKeyExtractor(keyExtractor);
+    long[] packed = new long[objects.length];
+    for (int i = 0; i < packed.length; i++) {
+      packed[i] = KeySortOps.pack(keyExtractor.applyAsInt(objects[i]), i);
+    }
+    KeySortOps.sort(packed, this);
+    KeySortOps.permute(objects, packed);
+  }
+
+  /**
+   * <br>Same as {@link #sortByIntKey(Object[], ToIntFunction)}, but a long key leaves no room for
+   * the index: the keys are sorted first, by the engine, and it is the rank of every key that is
+   * packed with the index and sorted in turn; twice the work of an int key.<br>
+   */
+  default <E> void sortByLongKey(E[] objects, ToLongFunction<? super E> keyExtractor) {
+    checkArray(objects);
+    checkKeyExtractor(keyExtractor);
+    long[] keys = new long[objects.length];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = keyExtractor.applyAsLong(objects[i]);
+    }
+    KeySortOps.sortByKey(objects, keys, this);
+  }
+
+  /**
+   * <br>Same as {@link #sortByLongKey(Object[], ToLongFunction)}; keys are ordered as by
+   * {@link Double#compare(double, double)} i.e. -0.0 before 0.0 and NaNs at the end.<br>
+   */
+  default <E> void sortByDoubleKey(E[] objects, ToDoubleFunction<? super E> keyExtractor) {
+    checkArray(objects);
+    checkKeyExtractor(keyExtractor);
+    long[] keys = new long[objects.length];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = KeySortOps.sortableBits(keyExtractor.applyAsDouble(objects[i]));
+    }
+    KeySortOps.sortByKey(objects, keys, this);
+  }
+
   ListNode<T> sortList(ListNode<T> head);
 }
@@ -0,0 +1,169 @@
+package com.sl.algorithms.core.list.merge;
+
+import static com.sl.algorithms.core.interfaces.base.Constants.COMPARATOR_IS_NULL;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <br>Lazy k-way merge of sorted sources, as an {@link Iterator}: the counterpart of
+ * {@link LinkedListMergeLoserTree} for inputs that are not in memory, e.g. pages of results
+ * fetched from many shards.<br>
+ * <br><u>Pull</u>:&nbsp;the merge holds at most one element per source. Every source is pulled
+ * once on the 1st {@link #hasNext()}; after that, only the source of the last element handed out
+ * is pulled, and not before the next call to {@link #hasNext()} or {@link #next()}. A slow
+ * consumer thus holds back all the sources.<br>
+ * <br><u>Loser tree</u>:&nbsp;same as the {@link LinkedListMergeLoserTree}, log2(k) comparisons
+ * per element; between equal elements, the source with the lower index goes first.<br>
+ * <br><u>Complexity</u>: O(N * logK) time, O(K) space: N = total number of elements and K =
+ * total number of sources.<br>
+ */
+public class IteratorMergeLoserTree<T> implements Iterator<T> {
+
+  private final List<Iterator<? extends T>> sources;
+  private final Comparator<? super T> comparator;
+  private final int sourceCount;
+  private final List<T> heads;
+  private final boolean[] hasHead;
+  private final int[] losers;
+  private boolean started;
+  private int winner = -1;
+  private int taken = -1; // source of the last element handed out, not pulled again yet
+
+  public IteratorMergeLoserTree(List<? extends Iterator<? extends T>> sources,
+      Comparator<? super T> comparator) {
+    if (sources == null) {
+      throw new IllegalArgumentException("source is null");
+    }
+    if (comparator == null) {
+      throw new IllegalArgumentException(COMPARATOR_IS_NULL);
+    }
+    this.sources = new ArrayList<>(sources);
+    if (this.sources.contains(null)) {
+      throw new IllegalArgumentException("source is null");
+    }
+    this.comparator = comparator;
+    this.sourceCount = sources.size();
+    this.heads = new ArrayList<>(sourceCount);
+    for (int i = 0; i < sourceCount; i++) {
+      heads.add(null);
+    }
+    this.hasHead = new boolean[sourceCount];
+    this.losers = new int[sourceCount];
+  }
+
+  public static <T extends Comparable<? super T>> Iterator<T> merge(
+      List<? extends Iterator<? extends T>> sources) {
+    return merge(sources, Comparator.naturalOrder());
+  }
+
+  public static <T> Iterator<T> merge(List<? extends Iterator<? extends T>> sources,
+      Comparator<? super T> comparator) {
+    return new IteratorMergeLoserTree<>(sources, comparator);
+  }
+
+  public static <T extends Comparable<? super T>> Stream<T> stream(
+      List<? extends Spliterator<? extends T>> sources) {
+    return stream(sources, Comparator.naturalOrder());
+  }
+
+  /**
+   * <br>Same as {@link #merge(List, Comparator)}, as a sequential, ordered {@link Stream}; every
+   * spliterator is advanced one element at a time.<br>
+   */
+  public static <T> Stream<T> stream(List<? extends Spliterator<? extends T>> sources,
+      Comparator<? super T> comparator) {
+    if (sources == null) {
+      throw new IllegalArgumentException("source is null");
+    }
+    List<Iterator<? extends T>> iterators = new ArrayList<>(sources.size());
+    for (Spliterator<? extends T> source : sources) {
+      if (source == null) {
+        throw new IllegalArgumentException("source is null");
+      }
+      iterators.add(Spliterators.iterator(source));
+    }
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+        merge(iterators, comparator), Spliterator.ORDERED), false);
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (!started) {
+      started = true;
+      for (int i = 0; i < sourceCount; i++) {
+        pull(i);
+      }
+      winner = sourceCount == 0 ? -1 : play(1);
+    } else if (taken >= 0) {
+      pull(taken);
+      replay(taken);
+      taken = -1;
+    }
+    return winner >= 0 && hasHead[winner];
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    T element = heads.set(winner, null);
+    hasHead[winner] = false;
+    taken = winner;
+    return element;
+  }
+
+  private void pull(int i) {
+    Iterator<? extends T> source = sources.get(i);
+    hasHead[i] = source.hasNext();
+    if (hasHead[i]) {
+      heads.set(i, source.next());
+    }
+  }
+
+  // initial tournament of the subtree at node: the winner goes up, the loser stays
+  private int play(int node) {
+    if (node >= sourceCount) {
+      return node - sourceCount;
+    }
+    int left = play(2 * node);
+    int right = play(2 * node + 1);
+    if (beats(right, left)) {
+      losers[node] = left;
+      return right;
+    }
+    losers[node] = right;
+    return left;
+  }
+
+  // the new head of source w replays the matches on the path from its leaf to the root
+  private void replay(int w) {
+    for (int node = (w + sourceCount) >>> 1; node > 0; node >>>= 1) {
+      int loser = losers[node];
+      if (beats(loser, w)) {
+        losers[node] = w;
+        w = loser;
+      }
+    }
+    winner = w;
+  }
+
+  private boolean beats(int a, int b) {
+    if (!hasHead[a]) {
+      return false;
+    }
+    if (!hasHead[b]) {
+      return true;
+    }
+    int cmp = comparator.compare(heads.get(a), heads.get(b));
+    return cmp < 0 || (cmp == 0 && a < b);
+  }
+}
@@ -2,53 +2,88 @@ package com.sl.algorithms.core.list.merge;
 
 import com.sl.algorithms.core.interfaces.merge.MergeEngine;
 import com.sl.algorithms.core.list.ListNode;
-import com.sl.algorithms.core.utils.Formulas;
+import java.util.Comparator;
 
 public class LinkedListMergeDnQ<T extends Comparable> implements MergeEngine<T> {
 
+  protected final Comparator<T> naturalOrder = naturalOrder();
+
   /**
    * <br><a href="https://leetcode.com/problems/merge-k-sorted-lists/description/">Merge K sorted
-   * lists, using divide-n-conquer technique</a><br> <br>Complexity: <br>- Time: O(N * logK): N =
-   * total number of nodes and K = total number of lists. <br>- Space: O(N): because we're using the
-   * recursive @{@link LinkedListMergeDnQ#merge2SortedLists(ListNode, ListNode)} method.
+   * lists, using divide-n-conquer technique</a><br> <br>The lists are merged bottom-up, in pairs:
+   * (0,1), (2,3) ... then (0,2), (4,6) ... and so on, with the result of every pair kept in the
+   * slot of its 1st list; the same merge tree as splitting the array in halves, without the
+   * recursion.<br> <br>Complexity: <br>- Time: O(N * logK): N = total number of nodes and K =
+   * total number of lists. <br>- Space: O(K) for a copy of the array, the input is left as it is;
+   * O(1) stack, as @{@link LinkedListMergeDnQ#merge2SortedLists(ListNode, ListNode)} is iterative.
    */
   @Override
   public ListNode<T> mergeKSortedLists(ListNode<T>[] sortedListsArray) {
-    return partitionThenMerge(sortedListsArray, 0, sortedListsArray.length - 1);
+    return mergePairwise(sortedListsArray, naturalOrder);
+  }
+
+  @Override
+  public ListNode<T> mergeKSortedLists(ListNode<T>[] sortedListsArray,
+      Comparator<? super T> comparator) {
+    checkComparator(comparator);
+    return mergePairwise(sortedListsArray, comparator);
   }
 
-  private ListNode<T> partitionThenMerge(ListNode<T>[] sortedListArray, int start, int end) {
-    if (start > end) {
+  private ListNode<T> mergePairwise(ListNode<T>[] sortedListsArray,
+      Comparator<? super T> comparator) {
+    if (sortedListsArray.length == 0) {
       return null;
     }
-    if (start == end) {
-      return sortedListArray[start];
+    return mergePairwise(sortedListsArray.clone(), 0, sortedListsArray.length, comparator);
+  }
+
+  /**
+   * <br>Merge the lists in [s, e) of the array, bottom-up in pairs, in place.<br>
+   *
+   * @return the merged list, also left at index s
+   */
+  protected ListNode<T> mergePairwise(ListNode<T>[] lists, int s, int e,
+      Comparator<? super T> comparator) {
+    for (int width = 1; width < e - s; width *= 2) {
+      for (int i = s; i + width < e; i += 2 * width) {
+        lists[i] = merge2SortedLists(lists[i], lists[i + width], comparator);
+        lists[i + width] = null;
+      }
     }
-    int midPoint = Formulas.midPoint(start, end);
-    ListNode<T> listNode1 = partitionThenMerge(sortedListArray, start, midPoint);
-    ListNode<T> listNode2 = partitionThenMerge(sortedListArray, midPoint + 1, end);
-    return merge2SortedLists(listNode1, listNode2);
+    return lists[s];
   }
 
   /**
-   * <br>O(n+m) time and space recursive method to merge 2 sorted lists.<br>
+   * <br>O(n+m) time and O(1) space iterative method to merge 2 sorted lists: the nodes are
+   * re-linked, so lists of millions of nodes are merged without any risk to the stack.<br>
    */
+  @Override
   public ListNode<T> merge2SortedLists(ListNode<T> list1, ListNode<T> list2) {
+    return merge2SortedLists(list1, list2, naturalOrder);
+  }
+
+  @Override
+  public ListNode<T> merge2SortedLists(ListNode<T> list1, ListNode<T> list2,
+      Comparator<? super T> comparator) {
     if (list1 == null) {
       return list2;
     }
     if (list2 == null) {
       return list1;
     }
-    ListNode<T> mergedHead;
-    if (list1.compareTo(list2) <= 0) {
-      mergedHead = list1;
-      mergedHead.next = merge2SortedLists(list1.next, list2);
-    } else {
-      mergedHead = list2;
-      mergedHead.next = merge2SortedLists(list1, list2.next);
+    ListNode<T> dummyNode = ListNode.dummyNode();
+    ListNode<T> tail = dummyNode;
+    while (list1 != null && list2 != null) {
+      if (comparator.compare(list1.data, list2.data) <= 0) {
+        tail.next = list1;
+        list1 = list1.next;
+      } else {
+        tail.next = list2;
+        list2 = list2.next;
+      }
+      tail = tail.next;
     }
-    return mergedHead;
+    tail.next = (list1 != null) ? list1 : list2;
+    return dummyNode.next;
   }
-
 }
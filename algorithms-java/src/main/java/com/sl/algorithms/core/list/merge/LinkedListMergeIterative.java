@@ -2,6 +2,7 @@ package com.sl.algorithms.core.list.merge;
 
 import com.sl.algorithms.core.interfaces.merge.MergeEngine;
 import com.sl.algorithms.core.list.ListNode;
+import java.util.Comparator;
 
 /**
  * <p>Iteratively merge lists from an array of sorted lists - for reference only.</p>
@@ -10,11 +11,19 @@ public class LinkedListMergeIterative<T extends Comparable> implements MergeEngi
 
   @Override
   public ListNode<T> mergeKSortedLists(ListNode<T>[] sortedListsArray) {
-    ListNode<T> mHead = merge2SortedLists(sortedListsArray[0], sortedListsArray[1]);
-    for (int i = 2; i < sortedListsArray.length; i++) {
-      ListNode<T> list1 = mHead;
-      ListNode<T> list2 = sortedListsArray[i];
-      mHead = merge2SortedLists(list1, list2);
+    return mergeKSortedLists(sortedListsArray, naturalOrder());
+  }
+
+  @Override
+  public ListNode<T> mergeKSortedLists(ListNode<T>[] sortedListsArray,
+      Comparator<? super T> comparator) {
+    checkComparator(comparator);
+    if (sortedListsArray.length == 0) {
+      return null;
+    }
+    ListNode<T> mHead = sortedListsArray[0];
+    for (int i = 1; i < sortedListsArray.length; i++) {
+      mHead = merge2SortedLists(mHead, sortedListsArray[i], comparator);
     }
     return mHead;
   }
@@ -24,6 +33,13 @@ public class LinkedListMergeIterative<T extends Comparable> implements MergeEngi
    */
   @Override
   public ListNode<T> merge2SortedLists(ListNode<T> list1, ListNode<T> list2) {
+    return merge2SortedLists(list1, list2, naturalOrder());
+  }
+
+  @Override
+  public ListNode<T> merge2SortedLists(ListNode<T> list1, ListNode<T> list2,
+      Comparator<? super T> comparator) {
+    checkComparator(comparator);
     if (list1 == null || list1.isDummyNode()) {
       return list2;
     }
@@ -32,9 +48,8 @@ public class LinkedListMergeIterative<T extends Comparable> implements MergeEngi
     }
     ListNode<T> dummyNode = ListNode.dummyNode();
     ListNode<T> mHead = dummyNode;
-    dummyNode.next = mHead;
     do {
-      if (list1.compareTo(list2) <= 0) {
+      if (comparator.compare(list1.data, list2.data) <= 0) {
         mHead.next = list1;
         mHead = list1;
         list1 = list1.next;
@@ -44,12 +59,7 @@ public class LinkedListMergeIterative<T extends Comparable> implements MergeEngi
         list2 = list2.next;
       }
     } while (list1 != null && list2 != null);
-    // handle the case when one list contains all values less that second list
-    if (list1 != null) {
-      mHead.next = list1;
-    } else { // if (list2 != null)
-      mHead.next = list2;
-    }
+    mHead.next = list1 != null ? list1 : list2;
     return dummyNode.next;
   }
 }
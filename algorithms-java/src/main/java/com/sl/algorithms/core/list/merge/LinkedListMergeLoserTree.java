@@ -0,0 +1,120 @@
+package com.sl.algorithms.core.list.merge;
+
+import com.sl.algorithms.core.interfaces.merge.MergeEngine;
+import com.sl.algorithms.core.list.ListNode;
+import java.util.Comparator;
+
+/**
+ * <br><a href="https://leetcode.com/problems/merge-k-sorted-lists/description/">Merge K sorted
+ * lists, using a tournament tree of losers</a><br>
+ * <br><u>Loser tree</u>:&nbsp;the heads of the K lists are the leaves, K..2K-1, of a complete
+ * binary tree; every internal node, 1..K-1, keeps the list that lost the match played below it,
+ * and the overall winner is kept aside. Once the winner is linked to the merged list, its next
+ * node replays only the matches on the path from its leaf to the root: one comparison per level,
+ * whereas the {@link LinkedListMergePQ} does up to 2 per level to sift down.<br>
+ * <br><u>Ties</u>:&nbsp;an exhausted list loses every match; between equal nodes, the list with
+ * the lower index wins, so the merge is stable. Null and dummy lists are exhausted from the
+ * start.<br>
+ * <br><u>Complexity</u>: <br>Time: O(N * logK): N = total number of nodes and K = total number of
+ * lists. <br>Space: O(K): the nodes are re-linked, nothing is allocated per node.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/K-way_merge_algorithm#Tournament_Tree">Tournament
+ * Tree</a>
+ */
+public class LinkedListMergeLoserTree<T extends Comparable> implements MergeEngine<T> {
+
+  @Override
+  public ListNode<T> mergeKSortedLists(ListNode<T>[] sortedListsArray) {
+    return merge(sortedListsArray, naturalOrder());
+  }
+
+  @Override
+  public ListNode<T> mergeKSortedLists(ListNode<T>[] sortedListsArray,
+      Comparator<? super T> comparator) {
+    checkComparator(comparator);
+    return merge(sortedListsArray, comparator);
+  }
+
+  private ListNode<T> merge(ListNode<T>[] sortedListsArray, Comparator<? super T> comparator) {
+    if (sortedListsArray == null || sortedListsArray.length == 0) {
+      return null;
+    }
+    int k = sortedListsArray.length;
+    ListNode<T>[] heads = sortedListsArray.clone(); // the input array is left as it is
+    for (int i = 0; i < k; i++) {
+      if (heads[i] != null && heads[i].isDummyNode()) {
+        heads[i] = null;
+      }
+    }
+    int[] losers = new int[k];
+    int winner = play(1, heads, losers, comparator);
+    ListNode<T> dummyNode = ListNode.dummyNode();
+    ListNode<T> tail = dummyNode;
+    while (heads[winner] != null) {
+      tail.next = heads[winner];
+      tail = tail.next;
+      heads[winner] = tail.next;
+      for (int node = (winner + k) >>> 1; node > 0; node >>>= 1) {
+        int loser = losers[node];
+        if (beats(loser, winner, heads, comparator)) {
+          losers[node] = winner;
+          winner = loser;
+        }
+      }
+    }
+    return dummyNode.next;
+  }
+
+  // initial tournament of the subtree at node: the winner goes up, the loser stays
+  private int play(int node, ListNode<T>[] heads, int[] losers,
+      Comparator<? super T> comparator) {
+    int k = heads.length;
+    if (node >= k) {
+      return node - k;
+    }
+    int left = play(2 * node, heads, losers, comparator);
+    int right = play(2 * node + 1, heads, losers, comparator);
+    if (beats(right, left, heads, comparator)) {
+      losers[node] = left;
+      return right;
+    }
+    losers[node] = right;
+    return left;
+  }
+
+  private boolean beats(int a, int b, ListNode<T>[] heads, Comparator<? super T> comparator) {
+    if (heads[a] == null) {
+      return false;
+    }
+    if (heads[b] == null) {
+      return true;
+    }
+    int cmp = comparator.compare(heads[a].data, heads[b].data);
+    return cmp < 0 || (cmp == 0 && a < b);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked") // because of the unchecked call to mergeKSortedLists
+  public ListNode<T> merge2SortedLists(ListNode<T> list1, ListNode<T> list2) {
+    if (list1 == null || list1.isDummyNode()) {
+      return list2;
+    }
+    if (list2 == null || list2.isDummyNode()) {
+      return list1;
+    }
+    return mergeKSortedLists(new ListNode[]{list1, list2});
+  }
+
+  @Override
+  @SuppressWarnings("unchecked") // because of the unchecked call to mergeKSortedLists
+  public ListNode<T> merge2SortedLists(ListNode<T> list1, ListNode<T> list2,
+      Comparator<? super T> comparator) {
+    if (list1 == null || list1.isDummyNode()) {
+      return list2;
+    }
+    if (list2 == null || list2.isDummyNode()) {
+      return list1;
+    }
+    return mergeKSortedLists(new ListNode[]{list1, list2}, comparator);
+  }
+}
@@ -2,7 +2,7 @@ package com.sl.algorithms.core.list.merge;
 
 import com.sl.algorithms.core.interfaces.merge.MergeEngine;
 import com.sl.algorithms.core.list.ListNode;
-import java.util.Collections;
+import java.util.Comparator;
 import java.util.PriorityQueue;
 import java.util.Queue;
 
@@ -10,22 +10,47 @@ import java.util.Queue;
  * <br><a href="https://leetcode.com/problems/merge-k-sorted-lists/description/">Merge K sorted
  * lists, using priority-queue</a><br> <br><u>Complexity</u>: <br>Time: O(N * logK): N = total
  * number of nodes and K = total number of lists. <br>Space: O(N): for merged list + O(kMax): for
- * the priority-queue.
+ * the priority-queue.<br> <br>Stable: on a tie, the node of the list with the lower index goes
+ * first.
  */
 public class LinkedListMergePQ<T extends Comparable> implements MergeEngine<T> {
 
   @Override
   public ListNode<T> mergeKSortedLists(ListNode<T>[] sortedListsArray) {
+    return merge(sortedListsArray, ListNode::compareTo);
+  }
+
+  @Override
+  public ListNode<T> mergeKSortedLists(ListNode<T>[] sortedListsArray,
+      Comparator<? super T> comparator) {
+    checkComparator(comparator);
+    return merge(sortedListsArray, (node1, node2) -> comparator.compare(node1.data, node2.data));
+  }
+
+  /**
+   * <br>The queue holds a cursor per list rather than the nodes, so that a tie is broken by the
+   * index of the list: a {@link PriorityQueue} by itself is not stable.<br>
+   */
+  private ListNode<T> merge(ListNode<T>[] sortedListsArray,
+      Comparator<? super ListNode<T>> nodeOrder) {
     ListNode<T> dummyNode = ListNode.dummyNode();
     ListNode<T> minNode = dummyNode;
-    dummyNode.next = minNode;
-    Queue<ListNode<T>> priorityQueue = new PriorityQueue<>();
-    Collections.addAll(priorityQueue, sortedListsArray);
+    Queue<Cursor<T>> priorityQueue = new PriorityQueue<>((cursor1, cursor2) -> {
+      int cmp = nodeOrder.compare(cursor1.node, cursor2.node);
+      return cmp != 0 ? cmp : Integer.compare(cursor1.index, cursor2.index);
+    });
+    for (int i = 0; i < sortedListsArray.length; i++) {
+      if (sortedListsArray[i] != null) {
+        priorityQueue.add(new Cursor<>(sortedListsArray[i], i));
+      }
+    }
     while (!priorityQueue.isEmpty()) {
-      minNode.next = priorityQueue.poll();
+      Cursor<T> cursor = priorityQueue.poll();
+      minNode.next = cursor.node;
       minNode = minNode.next;
       if (minNode.next != null) {
-        priorityQueue.add(minNode.next); // queue will get re-adjusted
+        cursor.node = minNode.next;
+        priorityQueue.add(cursor); // queue will get re-adjusted
       }
     }
     return dummyNode.next;
@@ -42,4 +67,28 @@ public class LinkedListMergePQ<T extends Comparable> implements MergeEngine<T> {
     }
     return mergeKSortedLists(new ListNode[]{list1, list2});
   }
+
+  @Override
+  @SuppressWarnings("unchecked") // because of the unchecked call to mergeKSortedLists
+  public ListNode<T> merge2SortedLists(ListNode<T> list1, ListNode<T> list2,
+      Comparator<? super T> comparator) {
+    if (list1 == null || list1.isDummyNode()) {
+      return list2;
+    }
+    if (list2 == null || list2.isDummyNode()) {
+      return list1;
+    }
+    return mergeKSortedLists(new ListNode[]{list1, list2}, comparator);
+  }
+
+  private static class Cursor<T extends Comparable> {
+
+    private final int index;
+    private ListNode<T> node;
+
+    Cursor(ListNode<T> node, int index) {
+      this.node = node;
+      this.index = index;
+    }
+  }
 }
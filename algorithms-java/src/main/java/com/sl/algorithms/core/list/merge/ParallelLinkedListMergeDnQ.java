@@ -0,0 +1,102 @@
+package com.sl.algorithms.core.list.merge;
+
+import com.sl.algorithms.core.list.ListNode;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * <br>{@link LinkedListMergeDnQ} on a fork/join pool: the array of lists is split in halves, the
+ * halves are merged concurrently, and then merged together. The merges of any one level of the
+ * tree are on disjoint lists, so they run side by side with no locking.<br>
+ * <br>A range of up to parallelThreshold lists is merged sequentially, bottom-up in pairs.<br>
+ * <br><u>Note</u>:&nbsp;the top merge, of all the N nodes, is sequential, and the level below
+ * it has only 2 merges of about N/2 nodes: the span is N + N/2 + N/4 ... = O(N), against the
+ * O(N * logK) work; the more lists, the better the speed-up.<br>
+ * <br><u>Complexity</u>: <br>- Time: O(N * logK / p + N): N = total number of nodes, K = total
+ * number of lists, p = parallelism. <br>- Space: O(K) for a copy of the array, and O(logK)
+ * tasks at a time per thread.
+ */
+public class ParallelLinkedListMergeDnQ<T extends Comparable> extends LinkedListMergeDnQ<T> {
+
+  /**
+   * Ranges of fewer lists than this are not worth the overhead of a task.
+   */
+  public static final int DEFAULT_PARALLEL_THRESHOLD = 8;
+
+  private final int parallelThreshold;
+  private final ForkJoinPool pool;
+
+  public ParallelLinkedListMergeDnQ() {
+    this(DEFAULT_PARALLEL_THRESHOLD);
+  }
+
+  public ParallelLinkedListMergeDnQ(int parallelThreshold) {
+    this(parallelThreshold, ForkJoinPool.commonPool());
+  }
+
+  public ParallelLinkedListMergeDnQ(int parallelThreshold, ForkJoinPool pool) {
+    if (parallelThreshold < 2) {
+      throw new IllegalArgumentException("parallelThreshold must be at least 2");
+    }
+    if (pool == null) {
+      throw new IllegalArgumentException("pool is null");
+    }
+    this.parallelThreshold = parallelThreshold;
+    this.pool = pool;
+  }
+
+  @Override
+  public ListNode<T> mergeKSortedLists(ListNode<T>[] sortedListsArray) {
+    return mergeInParallel(sortedListsArray, naturalOrder);
+  }
+
+  @Override
+  public ListNode<T> mergeKSortedLists(ListNode<T>[] sortedListsArray,
+      Comparator<? super T> comparator) {
+    checkComparator(comparator);
+    return mergeInParallel(sortedListsArray, comparator);
+  }
+
+  private ListNode<T> mergeInParallel(ListNode<T>[] sortedListsArray,
+      Comparator<? super T> comparator) {
+    if (sortedListsArray.length == 0) {
+      return null;
+    }
+    ListNode<T>[] lists = sortedListsArray.clone();
+    if (lists.length <= parallelThreshold) {
+      return mergePairwise(lists, 0, lists.length, comparator);
+    }
+    return pool.invoke(new MergeTask(lists, 0, lists.length, comparator));
+  }
+
+  /**
+   * <br>Merge the lists in [start, end).<br>
+   */
+  private class MergeTask extends RecursiveTask<ListNode<T>> {
+
+    private final ListNode<T>[] lists;
+    private final int start;
+    private final int end;
+    private final Comparator<? super T> comparator;
+
+    MergeTask(ListNode<T>[] lists, int start, int end, Comparator<? super T> comparator) {
+      this.lists = lists;
+      this.start = start;
+      this.end = end;
+      this.comparator = comparator;
+    }
+
+    @Override
+    protected ListNode<T> compute() {
+      if (end - start <= parallelThreshold) {
+        return mergePairwise(lists, start, end, comparator);
+      }
+      int m = (start + end) >>> 1;
+      MergeTask right = new MergeTask(lists, m, end, comparator);
+      right.fork();
+      ListNode<T> left = new MergeTask(lists, start, m, comparator).compute();
+      return merge2SortedLists(left, right.join(), comparator);
+    }
+  }
+}
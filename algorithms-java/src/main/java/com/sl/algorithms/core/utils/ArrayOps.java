@@ -13,7 +13,7 @@ public class ArrayOps implements Constants {
      */
   }
 
-  public static <T extends Comparable> void swap(T[] objects, int i, int j) {
+  public static <T> void swap(T[] objects, int i, int j) {
     if (i == j) {
       return; // important
     }
@@ -31,7 +31,25 @@ public class ArrayOps implements Constants {
     nums[j] = temp;
   }
 
-  public static <T extends Comparable> void swapInBlocks(T[] a, int i1, int i2, int n) {
+  public static void swap(long[] nums, int i, int j) {
+    if (i == j) {
+      return; // important
+    }
+    long temp = nums[i];
+    nums[i] = nums[j];
+    nums[j] = temp;
+  }
+
+  public static void swap(double[] nums, int i, int j) {
+    if (i == j) {
+      return; // important
+    }
+    double temp = nums[i];
+    nums[i] = nums[j];
+    nums[j] = temp;
+  }
+
+  public static <T> void swapInBlocks(T[] a, int i1, int i2, int n) {
     for (int i = 0; i < n; i++) {
       T temp = a[i1 + i];
       a[i1 + i] = a[i2 + i];
@@ -39,12 +57,12 @@ public class ArrayOps implements Constants {
     }
   }
 
-  public static <T extends Comparable> void reverse(T[] objects) {
+  public static <T> void reverse(T[] objects) {
     // O(n) time and O(1) space
     reverse(objects, 0, objects.length - 1);
   }
 
-  public static <T extends Comparable> void reverse(T[] objects, int start, int end) {
+  public static <T> void reverse(T[] objects, int start, int end) {
     while (start < end) {
       swap(objects, start++, end--);
     }
@@ -60,6 +78,18 @@ public class ArrayOps implements Constants {
     }
   }
 
+  public static void reverse(long[] nums, int start, int end) {
+    while (start < end) {
+      swap(nums, start++, end--);
+    }
+  }
+
+  public static void reverse(double[] nums, int start, int end) {
+    while (start < end) {
+      swap(nums, start++, end--);
+    }
+  }
+
   //O(n)
   public static <T> String printArray(T[] objects) {
     if (objects == null || objects.length == 0) {
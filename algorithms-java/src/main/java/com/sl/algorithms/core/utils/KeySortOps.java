@@ -0,0 +1,139 @@
+package com.sl.algorithms.core.utils;
+
+import com.sl.algorithms.core.interfaces.base.Constants;
+import com.sl.algorithms.core.interfaces.sort.PrimitiveSortingEngine;
+import com.sl.algorithms.core.interfaces.sort.SortingEngine;
+import java.util.Arrays;
+
+/**
+ * <br>Building blocks of a key-extraction (decorate-sort-undecorate) sort: the key of every
+ * element is extracted once into a long[], the keys are sorted along with the element indices, and
+ * the elements are then moved to their sorted position in a single pass.<br>
+ * <br><u>Keys</u>: int and long keys are used as is; a double key is mapped to a long whose signed
+ * order is that of {@link Double#compare(double, double)}, see {@link #sortableBits(double)}.<br>
+ * <br><u>Packed keys</u>:&nbsp;an int key and its element index fit in a single long, see
+ * {@link #pack(int, int)}; such longs are all distinct, so any sort of a long[] orders them by
+ * key and then by index i.e. stable, and the sort engine's own long[] path can do it.<br>
+ * <br><u>Ranks</u>:&nbsp;a long key leaves no room for the index, so the keys are sorted on their
+ * own first, and every key is then packed as its rank among them, see
+ * {@link #packRanks(long[], long[])}: below n, a rank fits in an int.<br>
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Schwartzian_transform">Schwartzian transform</a>
+ */
+public class KeySortOps implements Constants {
+
+  KeySortOps() {
+    /*
+     * This is a utility class.<br>
+     */
+  }
+
+  /**
+   * <br>-0.0 &lt; 0.0 and every NaN at the end, same as {@link Double#compare(double, double)}:
+   * the bits of a negative double are flipped (but the sign bit), so that its magnitude order is
+   * reversed.<br>
+   */
+  public static long sortableBits(double d) {
+    long bits = Double.doubleToLongBits(d); // NaNs collapse into the canonical NaN
+    return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+  }
+
+  /**
+   * <br>Inverse of {@link #sortableBits(double)}, which only flips the bits other than the sign
+   * bit, hence is its own inverse.<br>
+   */
+  public static double fromSortableBits(long bits) {
+    return Double.longBitsToDouble(bits ^ ((bits >> 63) & Long.MAX_VALUE));
+  }
+
+  /**
+   * <br>The key in the high half, the index in the low half: the signed order of the longs is
+   * that of the keys, then of the indices.<br>
+   */
+  public static long pack(int key, int index) {
+    return ((long) key << 32) | index;
+  }
+
+  /**
+   * <br>Sort the longs ascending, by the engine's own long[] path when it is a
+   * {@link PrimitiveSortingEngine}, else by {@link Arrays#sort(long[])}; a descending engine e.g.
+   * a min-heap sort is told by the ends of the sorted longs.<br>
+   */
+  public static void sort(long[] a, SortingEngine<?> engine) {
+    if (engine instanceof PrimitiveSortingEngine) {
+      ((PrimitiveSortingEngine) engine).sort(a);
+      if (a.length > 1 && a[0] > a[a.length - 1]) {
+        ArrayOps.reverse(a, 0, a.length - 1);
+      }
+    } else {
+      Arrays.sort(a);
+    }
+  }
+
+  /**
+   * <br>The rank of every key, i.e. the count of the keys below it, packed with its index: the
+   * packed longs are ordered as the keys, then as the indices.<br>
+   *
+   * @param sortedKeys the keys, sorted ascending
+   */
+  public static long[] packRanks(long[] keys, long[] sortedKeys) {
+    long[] packed = new long[keys.length];
+    for (int i = 0; i < keys.length; i++) {
+      packed[i] = pack(lowerBound(sortedKeys, keys[i]), i);
+    }
+    return packed;
+  }
+
+  // index of the first element >= key
+  private static int lowerBound(long[] sortedKeys, long key) {
+    int lo = 0;
+    int hi = sortedKeys.length;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (sortedKeys[mid] < key) {
+        lo = mid + 1;
+      } else {
+        hi = mid;
+      }
+    }
+    return lo;
+  }
+
+  /**
+   * <br>Move every object to its sorted position, as given by the sorted packed longs.<br>
+   *
+   * @param packed sorted (key, index) pairs, see {@link #pack(int, int)}; it is consumed by the
+   * permutation
+   */
+  public static <E> void permute(E[] objects, long[] packed) {
+    for (int i = 0; i < objects.length; i++) {
+      if ((int) packed[i] == i) {
+        continue;
+      }
+      E first = objects[i];
+      int j = i;
+      while ((int) packed[j] != i) {
+        int next = (int) packed[j];
+        objects[j] = objects[next];
+        packed[j] = j;
+        j = next;
+      }
+      objects[j] = first;
+      packed[j] = j;
+    }
+  }
+
+  /**
+   * <br>Sort the objects by their keys, stable, through the engine's long[] path: the keys are
+   * sorted, turned into ranks, and the packed (rank, index) longs sorted in turn.<br>
+   *
+   * @param keys keys[i] is the key of objects[i]
+   */
+  public static <E> void sortByKey(E[] objects, long[] keys, SortingEngine<?> engine) {
+    long[] sortedKeys = keys.clone();
+    sort(sortedKeys, engine);
+    long[] packed = packRanks(keys, sortedKeys);
+    sort(packed, engine);
+    permute(objects, packed);
+  }
+}
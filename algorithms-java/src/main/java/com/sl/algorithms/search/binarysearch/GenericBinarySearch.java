@@ -2,6 +2,7 @@ package com.sl.algorithms.search.binarysearch;
 
 import com.sl.algorithms.core.interfaces.search.Search;
 import com.sl.algorithms.core.utils.Formulas;
+import java.util.Comparator;
 
 /**
  * <br>Search object in a sorted (and rotated) list.<br> <br><u>Related Problems</u>: <br><a
@@ -18,19 +19,27 @@ public class GenericBinarySearch<T extends Comparable> implements Search<T> {
 
   @Override
   public int findIndex(T[] rotatedSortedInput, T targetElement) {
+    return findIndex(rotatedSortedInput, targetElement, naturalOrder());
+  }
+
+  @Override
+  public <E> int findIndex(E[] rotatedSortedInput, E targetElement,
+      Comparator<? super E> comparator) {
     checkArray(rotatedSortedInput);
+    checkComparator(comparator);
     int start = 0, end = rotatedSortedInput.length - 1;
-    int startOfAscent =
-        rotatedSortedInput.length == 1 ? 0 : findStartOfAscent(rotatedSortedInput, start, end);
-    return findIndexGeneric(rotatedSortedInput, targetElement, start, end, startOfAscent);
+    int startOfAscent = rotatedSortedInput.length == 1 ? 0
+        : findStartOfAscent(rotatedSortedInput, start, end, comparator);
+    return findIndexGeneric(rotatedSortedInput, targetElement, start, end, startOfAscent,
+        comparator);
   }
 
-  @SuppressWarnings("unchecked") // compareTo
-  private int findIndexGeneric(T[] a, T target, int start, int end, int startOfAscent) {
+  private <E> int findIndexGeneric(E[] a, E target, int start, int end, int startOfAscent,
+      Comparator<? super E> comparator) {
     while (start <= end) {
       int midPoint = Formulas.midPoint(start, end);
       int realMidPoint = (midPoint + startOfAscent) % a.length;
-      int diff = a[realMidPoint].compareTo(target);
+      int diff = comparator.compare(a[realMidPoint], target);
       if (diff == 0) {
         return realMidPoint;
       }
@@ -45,19 +54,18 @@ public class GenericBinarySearch<T extends Comparable> implements Search<T> {
 
   public int findStartOfAscent(T[] a) {
     checkArray(a);
-    return a.length == 1 ? 0 : findStartOfAscent(a, 0, a.length - 1);
+    return a.length == 1 ? 0 : findStartOfAscent(a, 0, a.length - 1, naturalOrder());
   }
 
-  @SuppressWarnings("unchecked") // compareTo
-  private int findStartOfAscent(T[] a, int start, int end) {
+  private <E> int findStartOfAscent(E[] a, int start, int end, Comparator<? super E> comparator) {
     // both checks are necessary e.g. when all elements are the same or when all elements are same except one (e.g. [1,3,1,1,1])
-    T leftValue = a[start];
-    T rightValue = a[end];
-    while (start < end && leftValue.compareTo(rightValue) >= 0) {
+    E leftValue = a[start];
+    E rightValue = a[end];
+    while (start < end && comparator.compare(leftValue, rightValue) >= 0) {
       int m = Formulas.midPoint(start, end);
-      int mDiff = a[m].compareTo(a[end]);
+      int mDiff = comparator.compare(a[m], a[end]);
       if (mDiff == 0) {
-        if (leftValue.compareTo(a[--end])
+        if (comparator.compare(leftValue, a[--end])
             < 0) { // this is to handle duplicates and also sparsed array e.g. {1,1,1,2,1,1}
           return ++end;
         }
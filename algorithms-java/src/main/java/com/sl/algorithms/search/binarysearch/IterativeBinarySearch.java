@@ -2,12 +2,12 @@ package com.sl.algorithms.search.binarysearch;
 
 import com.sl.algorithms.core.interfaces.search.Search;
 import com.sl.algorithms.core.utils.Formulas;
+import java.util.Comparator;
 
 /**
  * <br><u>Objective</u>: Search in a SORTED array, in Logarithmic time.<br> <br><a
  * href="https://en.wikipedia.org/wiki/Binary_search_algorithm">Reference</a><br>
  */
-@SuppressWarnings("unchecked")
 public class IterativeBinarySearch<T extends Comparable> implements Search<T> {
 
   /**
@@ -16,19 +16,22 @@ public class IterativeBinarySearch<T extends Comparable> implements Search<T> {
    */
   @Override
   public int findIndex(T[] sortedInput, T targetElement) {
-    checkArray(sortedInput);
-    int start = 0, end = sortedInput.length - 1;
-    return findIndexIteratively(sortedInput, targetElement, start, end);
+    return findIndex(sortedInput, targetElement, naturalOrder());
   }
 
-  protected int findIndexIteratively(T[] sortedInput, T itemToSearch, int start, int end) {
-    while (start <= end) {  // the equality check here is important
+  @Override
+  public <E> int findIndex(E[] sortedInput, E targetElement, Comparator<? super E> comparator) {
+    checkArray(sortedInput);
+    checkComparator(comparator);
+    int start = 0;
+    int end = sortedInput.length - 1;
+    while (start <= end) {
       int midPoint = Formulas.midPoint(start, end);
-      T midValue = sortedInput[midPoint];
-      if (itemToSearch.equals(midValue)) {
+      int diff = comparator.compare(targetElement, sortedInput[midPoint]);
+      if (diff == 0) {
         return midPoint; // index found
       }
-      if (itemToSearch.compareTo(midValue) < 0) {
+      if (diff < 0) {
         end = midPoint - 1; // go left
       } else {
         start = midPoint + 1; // go right
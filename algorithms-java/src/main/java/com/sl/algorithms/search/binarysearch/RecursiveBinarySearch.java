@@ -2,6 +2,7 @@ package com.sl.algorithms.search.binarysearch;
 
 import com.sl.algorithms.core.interfaces.search.Search;
 import com.sl.algorithms.core.utils.Formulas;
+import java.util.Comparator;
 
 /**
  * <br><u>Objective</u>: Search in a SORTED array, in Logarithmic time.<br> <br><a
@@ -16,25 +17,30 @@ public class RecursiveBinarySearch<T extends Comparable> implements Search<T> {
    */
   @Override
   public int findIndex(T[] sortedInput, T targetElement) {
+    return findIndex(sortedInput, targetElement, naturalOrder());
+  }
+
+  @Override
+  public <E> int findIndex(E[] sortedInput, E targetElement, Comparator<? super E> comparator) {
     checkArray(sortedInput);
-    return findIndexRecursively(sortedInput, targetElement, 0, sortedInput.length - 1);
+    checkComparator(comparator);
+    return findIndexRecursively(sortedInput, targetElement, 0, sortedInput.length - 1,
+        comparator);
   }
 
-  @SuppressWarnings("unchecked") // compareTo
-  private int findIndexRecursively(T[] sortedInput, T itemToSearch, int start, int end) {
-    while (start <= end) {  // the equality check here is important
-      int midPoint = Formulas.midPoint(start, end);
-      T midValue = sortedInput[midPoint];
-      if (itemToSearch.equals(midValue)) {
-        return midPoint; // terminal 2 (index found)
-      }
-      if (itemToSearch.compareTo(midValue) < 0) {
-        end = midPoint - 1; // go left
-      } else {
-        start = midPoint + 1; // go right
-      }
-      return findIndexRecursively(sortedInput, itemToSearch, start, end);
+  private <E> int findIndexRecursively(E[] sortedInput, E itemToSearch, int start, int end,
+      Comparator<? super E> comparator) {
+    if (start > end) {
+      return ELEMENT_NOT_FOUND;
+    }
+    int midPoint = Formulas.midPoint(start, end);
+    int diff = comparator.compare(itemToSearch, sortedInput[midPoint]);
+    if (diff == 0) {
+      return midPoint;
+    }
+    if (diff < 0) {
+      return findIndexRecursively(sortedInput, itemToSearch, start, midPoint - 1, comparator);
     }
-    return ELEMENT_NOT_FOUND;
+    return findIndexRecursively(sortedInput, itemToSearch, midPoint + 1, end, comparator);
   }
 }
@@ -1,6 +1,7 @@
 package com.sl.algorithms.search.linearsearch;
 
 import com.sl.algorithms.core.interfaces.search.Search;
+import java.util.Comparator;
 
 /**
  * <br>O(n) time and O(1) space search in a 1-d array.<br>
@@ -9,9 +10,15 @@ public class LinearSearch<T extends Comparable> implements Search<T> {
 
   @Override
   public int findIndex(T[] inputArray, T targetElement) {
+    return findIndex(inputArray, targetElement, naturalOrder());
+  }
+
+  @Override
+  public <E> int findIndex(E[] inputArray, E targetElement, Comparator<? super E> comparator) {
     checkArray(inputArray);
+    checkComparator(comparator);
     for (int i = 0; i < inputArray.length; i++) {
-      if (inputArray[i].equals(targetElement)) {
+      if (comparator.compare(inputArray[i], targetElement) == 0) {
         return i;
       }
     }
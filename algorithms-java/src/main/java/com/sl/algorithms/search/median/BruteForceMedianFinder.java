@@ -2,6 +2,7 @@ package com.sl.algorithms.search.median;
 
 import com.sl.algorithms.core.interfaces.select.MedianFinder;
 import java.util.Arrays;
+import java.util.Comparator;
 
 /**
  * <br>Brute-force solution, for reference only.<br> <br>Time : O(N logN) <br>Space: O(N)
@@ -11,13 +12,19 @@ public class BruteForceMedianFinder<T extends Comparable> implements MedianFinde
 
   @Override
   public T findKthSmallest(T[] objects, int k) {
+    return findKthSmallest(objects, k, naturalOrder());
+  }
+
+  @Override
+  public <E> E findKthSmallest(E[] objects, int k, Comparator<? super E> comparator) {
     checkArray(objects);
+    checkComparator(comparator);
     int n = objects.length;
     kCheck(n, k);
     if (n == 1) {
       return objects[0];
     }
-    Arrays.parallelSort(objects);
+    Arrays.parallelSort(objects, comparator);
     return objects[--k]; // because 1 <= kMax <= N, while an array starts from 0 index
   }
 }
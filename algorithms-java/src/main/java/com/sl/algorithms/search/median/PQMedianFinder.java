@@ -1,7 +1,7 @@
 package com.sl.algorithms.search.median;
 
 import com.sl.algorithms.core.interfaces.select.MedianFinder;
-import java.util.Collections;
+import java.util.Comparator;
 import java.util.PriorityQueue;
 import java.util.Queue;
 
@@ -14,14 +14,20 @@ public class PQMedianFinder<T extends Comparable> implements MedianFinder<T> {
 
   @Override
   public T findKthSmallest(T[] objects, int k) {
+    return findKthSmallest(objects, k, naturalOrder());
+  }
+
+  @Override
+  public <E> E findKthSmallest(E[] objects, int k, Comparator<? super E> comparator) {
     checkArray(objects);
+    checkComparator(comparator);
     int n = objects.length;
     kCheck(n, k);
     if (n == 1) {
       return objects[0];
     }
-    Queue<T> priorityQueue = new PriorityQueue<>(Collections.reverseOrder());
-    for (T obj : objects) {
+    Queue<E> priorityQueue = new PriorityQueue<>(comparator.reversed());
+    for (E obj : objects) {
       priorityQueue.add(obj);
       if (priorityQueue.size() > k) {
         priorityQueue.poll();
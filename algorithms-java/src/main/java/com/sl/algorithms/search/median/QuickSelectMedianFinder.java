@@ -1,11 +1,31 @@
 package com.sl.algorithms.search.median;
 
 import com.sl.algorithms.core.interfaces.select.MedianFinder;
+import com.sl.algorithms.core.interfaces.select.PartitionScheme;
 import com.sl.algorithms.core.interfaces.select.QuickSelect;
 
 /**
- * <br>As-is inherited implementation from {@link MedianFinder} and {@link QuickSelect}.
+ * <br>As-is inherited implementation from {@link MedianFinder} and {@link QuickSelect}, with a
+ * choice of {@link PartitionScheme}: {@link PartitionScheme#THREE_WAY} suits inputs with few
+ * distinct keys.
  */
 public class QuickSelectMedianFinder<T extends Comparable> implements MedianFinder<T> {
 
+  private final PartitionScheme partitionScheme;
+
+  public QuickSelectMedianFinder() {
+    this(PartitionScheme.TWO_WAY);
+  }
+
+  public QuickSelectMedianFinder(PartitionScheme partitionScheme) {
+    if (partitionScheme == null) {
+      throw new IllegalArgumentException("partitionScheme is null");
+    }
+    this.partitionScheme = partitionScheme;
+  }
+
+  @Override
+  public PartitionScheme partitionScheme() {
+    return partitionScheme;
+  }
 }
@@ -0,0 +1,213 @@
+package com.sl.algorithms.sort.external;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * <br>Sort a stream of records which need not fit in memory.<br>
+ * <br><u>Steps</u>: <br>(1) read as many records as the memory budget allows, sort them with an
+ * in-memory sorting engine, and spill them to a temporary file as a sorted run; repeat until the
+ * end of the input. <br>(2) while there are more runs than the fan-in, merge them fan-in at a time
+ * into longer runs. <br>(3) merge the last runs into the output.<br>
+ * <br><u>Merge</u>:&nbsp;k-way, with the head record of every run in a priority-queue, same as
+ * {@link com.sl.algorithms.core.list.merge.LinkedListMergePQ} does for k sorted lists.<br>
+ * <br><u>Memory</u>:&nbsp;while spilling, the memory budget is shared by the records of a run and
+ * the scratch space of the in-memory sort; while merging, it is split into one read buffer per
+ * run plus one for the output.<br>
+ * <br><u>Fan-in</u>:&nbsp;a higher fan-in means fewer merge passes over the data, but smaller read
+ * buffers i.e. more seeks, on a spinning disk.<br>
+ * <br><u>Small input</u>:&nbsp;an input which fits in a single run is sorted and written out
+ * without touching the disk.<br>
+ * <br><u>Complexity</u>: O(n*log(n)) time, and ceil(log(runs)/log(fanIn)) merge passes over the
+ * data; O(memoryBudget) memory, O(n) disk.<br>
+ * <br><u>Note</u>:&nbsp;an instance holds the buffer of a run, hence is not thread-safe.<br>
+ *
+ * @param <I> reader of the records, on top of an {@link InputStream}
+ * @param <O> writer of the records, on top of an {@link OutputStream}
+ * @see <a href="https://en.wikipedia.org/wiki/External_sorting#External_merge_sort">External
+ * merge sort</a>
+ */
+public abstract class ExternalMergeSort<I extends Closeable, O extends Closeable & Flushable> {
+
+  public static final long DEFAULT_MEMORY_BUDGET = 64L << 20;
+  public static final int DEFAULT_FAN_IN = 64;
+  public static final long MIN_MEMORY_BUDGET = 1 << 10;
+  static final int MIN_BUFFER_SIZE = 1 << 8;
+  static final int MAX_BUFFER_SIZE = 1 << 20;
+
+  private final long memoryBudget;
+  private final int fanIn;
+  private final Path tempDir;
+
+  /**
+   * @param memoryBudget bytes of heap for the records and the buffers
+   * @param fanIn count of the runs merged at a time
+   * @param tempDir directory of the runs, or null for the default temporary-file directory
+   */
+  protected ExternalMergeSort(long memoryBudget, int fanIn, Path tempDir) {
+    if (memoryBudget < MIN_MEMORY_BUDGET) {
+      throw new IllegalArgumentException("memoryBudget must be at least " + MIN_MEMORY_BUDGET);
+    }
+    if (fanIn < 2) {
+      throw new IllegalArgumentException("fanIn must be at least 2");
+    }
+    this.memoryBudget = memoryBudget;
+    this.fanIn = fanIn;
+    this.tempDir = tempDir;
+  }
+
+  public void sort(Path input, Path output) throws IOException {
+    try (InputStream in = Files.newInputStream(input);
+        OutputStream out = Files.newOutputStream(output)) {
+      sort(in, out);
+    }
+  }
+
+  /**
+   * <br>The streams are left open.<br>
+   */
+  public void sort(InputStream in, OutputStream out) throws IOException {
+    if (in == null || out == null) {
+      throw new IllegalArgumentException("stream is null");
+    }
+    List<Path> runs = new ArrayList<>();
+    try {
+      I reader = reader(new BufferedInputStream(in, bufferSize(1)));
+      int count = readChunk(reader);
+      boolean single = !hasMore(reader);
+      while (count > 0) {
+        sortChunk(count);
+        if (single) {
+          O writer = writer(new BufferedOutputStream(out, bufferSize(1)));
+          writeChunk(count, writer);
+          writer.flush();
+          return;
+        }
+        Path run = newRun(runs);
+        try (O writer = writer(new BufferedOutputStream(Files.newOutputStream(run),
+            bufferSize(1)))) {
+          writeChunk(count, writer);
+        }
+        count = readChunk(reader);
+      }
+      while (runs.size() > fanIn) {
+        List<Path> batch = new ArrayList<>(runs.subList(0, fanIn));
+        runs.subList(0, fanIn).clear();
+        Path run = newRun(runs);
+        try (OutputStream runOut = Files.newOutputStream(run)) {
+          merge(batch, runOut);
+        } finally {
+          deleteAll(batch);
+        }
+      }
+      merge(runs, out);
+    } finally {
+      deleteAll(runs);
+    }
+  }
+
+  private void merge(List<Path> runs, OutputStream out) throws IOException {
+    int bufferSize = bufferSize(runs.size() + 1);
+    List<I> readers = new ArrayList<>();
+    try {
+      Queue<Run<O>> priorityQueue = new PriorityQueue<>();
+      for (Path path : runs) {
+        I reader = reader(new BufferedInputStream(Files.newInputStream(path), bufferSize));
+        readers.add(reader);
+        Run<O> run = run(reader);
+        if (run.next()) {
+          priorityQueue.add(run);
+        }
+      }
+      O writer = writer(new BufferedOutputStream(out, bufferSize));
+      while (!priorityQueue.isEmpty()) {
+        Run<O> min = priorityQueue.poll();
+        min.write(writer);
+        if (min.next()) {
+          priorityQueue.add(min); // queue will get re-adjusted
+        }
+      }
+      writer.flush();
+    } finally {
+      for (I reader : readers) {
+        reader.close();
+      }
+    }
+  }
+
+  private Path newRun(List<Path> runs) throws IOException {
+    Path run = tempDir == null ? Files.createTempFile("run", ".tmp")
+        : Files.createTempFile(tempDir, "run", ".tmp");
+    runs.add(run);
+    return run;
+  }
+
+  private static void deleteAll(List<Path> runs) throws IOException {
+    for (Path run : runs) {
+      Files.deleteIfExists(run);
+    }
+    runs.clear();
+  }
+
+  // share of the budget, for one of the given count of buffers
+  private int bufferSize(int buffers) {
+    return (int) Math.max(MIN_BUFFER_SIZE, Math.min(MAX_BUFFER_SIZE, memoryBudget / 4 / buffers));
+  }
+
+  /**
+   * @return bytes of heap for a chunk of records, and the scratch space to sort it: what the
+   * input and output buffers leave of the memory budget
+   */
+  protected long chunkBudget() {
+    return memoryBudget - 2L * bufferSize(1);
+  }
+
+  protected abstract I reader(InputStream in) throws IOException;
+
+  protected abstract O writer(OutputStream out) throws IOException;
+
+  /**
+   * <br>Read the next records, up to the memory budget, into the chunk.<br>
+   *
+   * @return count of the records read; 0 at the end of the input
+   */
+  protected abstract int readChunk(I reader) throws IOException;
+
+  /**
+   * @return false at the end of the input i.e. when the next {@link #readChunk} would read none
+   */
+  protected abstract boolean hasMore(I reader) throws IOException;
+
+  protected abstract void sortChunk(int count);
+
+  protected abstract void writeChunk(int count, O writer) throws IOException;
+
+  protected abstract Run<O> run(I reader);
+
+  /**
+   * <br>Cursor over a sorted run; runs are ordered by their current record.<br>
+   */
+  protected interface Run<O> extends Comparable<Run<O>> {
+
+    /**
+     * @return false past the last record
+     */
+    boolean next() throws IOException;
+
+    /**
+     * <br>Write the current record.<br>
+     */
+    void write(O writer) throws IOException;
+  }
+}
@@ -0,0 +1,127 @@
+package com.sl.algorithms.sort.external;
+
+import com.sl.algorithms.core.interfaces.sort.PrimitiveSortingEngine;
+import com.sl.algorithms.sort.finitegroups.integersorting.RadixSort;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * <br>{@link ExternalMergeSort} of fixed-width binary records, big-endian, as written by a
+ * {@link DataOutputStream}; a run is held in a primitive array and sorted by a
+ * {@link PrimitiveSortingEngine}.<br>
+ * <br><u>Memory</u>:&nbsp;a run holds half of the chunk budget worth of records; the other half
+ * is left for the scratch space of the sorting engine, {@link RadixSort} by default.<br>
+ * <br><u>I/O</u>:&nbsp;a run is read and written through a byte window, decoded in bulk, rather
+ * than one record at a time.<br>
+ *
+ * @param <A> primitive array of the records e.g. int[]
+ */
+public abstract class FixedWidthExternalMergeSort<A> extends
+    ExternalMergeSort<DataInputStream, DataOutputStream> {
+
+  static final int WINDOW_SIZE = 1 << 13;
+
+  protected final PrimitiveSortingEngine sortingEngine;
+  private final int recordSize;
+  private final byte[] window = new byte[WINDOW_SIZE];
+  private A chunk;
+  private int chunkLength;
+
+  /**
+   * @param recordSize bytes of a record
+   */
+  protected FixedWidthExternalMergeSort(long memoryBudget, int fanIn, Path tempDir,
+      PrimitiveSortingEngine sortingEngine, int recordSize) {
+    super(memoryBudget, fanIn, tempDir);
+    if (sortingEngine == null) {
+      throw new IllegalArgumentException("sortingEngine is null");
+    }
+    this.sortingEngine = sortingEngine;
+    this.recordSize = recordSize;
+  }
+
+  @Override
+  protected DataInputStream reader(InputStream in) {
+    return new DataInputStream(in);
+  }
+
+  @Override
+  protected DataOutputStream writer(OutputStream out) {
+    return new DataOutputStream(out);
+  }
+
+  @Override
+  protected int readChunk(DataInputStream reader) throws IOException {
+    int capacity = (int) Math.min(Integer.MAX_VALUE - 8, chunkBudget() / 2 / recordSize);
+    if (chunk == null || chunkLength != capacity) {
+      chunk = newChunk(capacity);
+      chunkLength = capacity;
+    }
+    int count = 0;
+    while (count < capacity) {
+      int len = (int) Math.min(window.length, (long) (capacity - count) * recordSize);
+      int bytes = reader.readNBytes(window, 0, len);
+      if (bytes % recordSize != 0) {
+        throw new EOFException("truncated record: input is not a whole number of " + recordSize
+            + "-byte records");
+      }
+      decode(ByteBuffer.wrap(window, 0, bytes), chunk, count, bytes / recordSize);
+      count += bytes / recordSize;
+      if (bytes < len) {
+        break;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  protected boolean hasMore(DataInputStream reader) throws IOException {
+    reader.mark(1);
+    boolean hasMore = reader.read() != -1;
+    reader.reset();
+    return hasMore;
+  }
+
+  @Override
+  protected void sortChunk(int count) {
+    if (count < chunkLength) { // the last run
+      chunk = copyOf(chunk, count);
+      chunkLength = count;
+    }
+    sortRecords(chunk);
+  }
+
+  @Override
+  protected void writeChunk(int count, DataOutputStream writer) throws IOException {
+    for (int i = 0; i < count; i += WINDOW_SIZE / recordSize) {
+      int records = Math.min(WINDOW_SIZE / recordSize, count - i);
+      encode(chunk, i, records, ByteBuffer.wrap(window));
+      writer.write(window, 0, records * recordSize);
+    }
+  }
+
+  protected abstract A newChunk(int length);
+
+  protected abstract A copyOf(A chunk, int length);
+
+  /**
+   * <br>Sort the chunk with the {@link #sortingEngine}.<br>
+   */
+  protected abstract void sortRecords(A chunk);
+
+  /**
+   * <br>Decode count records of the buffer into the chunk, from offset on.<br>
+   */
+  protected abstract void decode(ByteBuffer buffer, A chunk, int offset, int count);
+
+  /**
+   * <br>Encode count records of the chunk, from offset on, into the buffer.<br>
+   */
+  protected abstract void encode(A chunk, int offset, int count, ByteBuffer buffer);
+}
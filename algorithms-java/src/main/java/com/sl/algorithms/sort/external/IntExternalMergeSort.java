@@ -0,0 +1,87 @@
+package com.sl.algorithms.sort.external;
+
+import com.sl.algorithms.core.interfaces.sort.PrimitiveSortingEngine;
+import com.sl.algorithms.sort.finitegroups.integersorting.RadixSort;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * <br>{@link FixedWidthExternalMergeSort} of binary int records: 4 bytes each, big-endian, as
+ * written by {@link DataOutputStream#writeInt(int)}.<br>
+ */
+public class IntExternalMergeSort extends FixedWidthExternalMergeSort<int[]> {
+
+  public IntExternalMergeSort() {
+    this(DEFAULT_MEMORY_BUDGET, DEFAULT_FAN_IN, null, new RadixSort<>());
+  }
+
+  public IntExternalMergeSort(long memoryBudget, int fanIn, Path tempDir,
+      PrimitiveSortingEngine sortingEngine) {
+    super(memoryBudget, fanIn, tempDir, sortingEngine, Integer.BYTES);
+  }
+
+  @Override
+  protected int[] newChunk(int length) {
+    return new int[length];
+  }
+
+  @Override
+  protected int[] copyOf(int[] chunk, int length) {
+    return Arrays.copyOf(chunk, length);
+  }
+
+  @Override
+  protected void sortRecords(int[] chunk) {
+    sortingEngine.sort(chunk);
+  }
+
+  @Override
+  protected void decode(ByteBuffer buffer, int[] chunk, int offset, int count) {
+    buffer.asIntBuffer().get(chunk, offset, count);
+  }
+
+  @Override
+  protected void encode(int[] chunk, int offset, int count, ByteBuffer buffer) {
+    buffer.asIntBuffer().put(chunk, offset, count);
+  }
+
+  @Override
+  protected Run<DataOutputStream> run(DataInputStream reader) {
+    return new IntRun(reader);
+  }
+
+  private static class IntRun implements Run<DataOutputStream> {
+
+    private final DataInputStream reader;
+    private int head;
+
+    IntRun(DataInputStream reader) {
+      this.reader = reader;
+    }
+
+    @Override
+    public boolean next() throws IOException {
+      try {
+        head = reader.readInt();
+        return true;
+      } catch (EOFException eof) {
+        return false;
+      }
+    }
+
+    @Override
+    public void write(DataOutputStream writer) throws IOException {
+      writer.writeInt(head);
+    }
+
+    @Override
+    public int compareTo(Run<DataOutputStream> other) {
+      return Integer.compare(head, ((IntRun) other).head);
+    }
+  }
+}
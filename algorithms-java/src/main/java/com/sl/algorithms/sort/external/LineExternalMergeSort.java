@@ -0,0 +1,136 @@
+package com.sl.algorithms.sort.external;
+
+import com.sl.algorithms.core.interfaces.sort.SortingEngine;
+import com.sl.algorithms.sort.finitegroups.stringsorting.AmericanFlagSort;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <br>{@link ExternalMergeSort} of newline-delimited text, line by line, in the order of
+ * {@link String#compareTo(String)}.<br>
+ * <br><u>Lines</u>:&nbsp;'\n', '\r' and "\r\n" all end a line; every line of the output ends with
+ * '\n', the last one included.<br>
+ * <br><u>Memory</u>:&nbsp;a line is accounted for as {@link #LINE_OVERHEAD} bytes (the String,
+ * its array and the reference to it) plus 2 bytes per char; a run holds half of the chunk budget
+ * worth of lines, and the other half is left to the sorting engine, {@link AmericanFlagSort} by
+ * default. A line longer than that still makes a run on its own.<br>
+ * <br><u>Note</u>:&nbsp;the runs are merged by {@link String#compareTo(String)}, so the sorting
+ * engine must sort by the same order.<br>
+ */
+public class LineExternalMergeSort extends ExternalMergeSort<BufferedReader, BufferedWriter> {
+
+  static final int LINE_OVERHEAD = 64;
+
+  private final SortingEngine<String> sortingEngine;
+  private final Charset charset;
+  private final List<String> lines = new ArrayList<>();
+  private String[] chunk = new String[0];
+
+  public LineExternalMergeSort() {
+    this(DEFAULT_MEMORY_BUDGET, DEFAULT_FAN_IN, null, new AmericanFlagSort<>(),
+        StandardCharsets.UTF_8);
+  }
+
+  public LineExternalMergeSort(long memoryBudget, int fanIn, Path tempDir,
+      SortingEngine<String> sortingEngine, Charset charset) {
+    super(memoryBudget, fanIn, tempDir);
+    if (sortingEngine == null) {
+      throw new IllegalArgumentException("sortingEngine is null");
+    }
+    if (charset == null) {
+      throw new IllegalArgumentException("charset is null");
+    }
+    this.sortingEngine = sortingEngine;
+    this.charset = charset;
+  }
+
+  @Override
+  protected BufferedReader reader(InputStream in) {
+    return new BufferedReader(new InputStreamReader(in, charset));
+  }
+
+  @Override
+  protected BufferedWriter writer(OutputStream out) {
+    return new BufferedWriter(new OutputStreamWriter(out, charset));
+  }
+
+  @Override
+  protected int readChunk(BufferedReader reader) throws IOException {
+    long budget = chunkBudget() / 2;
+    long bytes = 0;
+    lines.clear();
+    String line;
+    while (bytes < budget && (line = reader.readLine()) != null) {
+      lines.add(line);
+      bytes += LINE_OVERHEAD + 2L * line.length();
+    }
+    return lines.size();
+  }
+
+  @Override
+  protected boolean hasMore(BufferedReader reader) throws IOException {
+    reader.mark(1);
+    boolean hasMore = reader.read() != -1;
+    reader.reset();
+    return hasMore;
+  }
+
+  @Override
+  protected void sortChunk(int count) {
+    chunk = lines.toArray(chunk.length == count ? chunk : new String[count]);
+    lines.clear();
+    sortingEngine.sort(chunk);
+  }
+
+  @Override
+  protected void writeChunk(int count, BufferedWriter writer) throws IOException {
+    for (int i = 0; i < count; i++) {
+      writer.write(chunk[i]);
+      writer.write('\n');
+    }
+    Arrays.fill(chunk, null); // let the lines go, while the next run is read
+  }
+
+  @Override
+  protected Run<BufferedWriter> run(BufferedReader reader) {
+    return new LineRun(reader);
+  }
+
+  private static class LineRun implements Run<BufferedWriter> {
+
+    private final BufferedReader reader;
+    private String head;
+
+    LineRun(BufferedReader reader) {
+      this.reader = reader;
+    }
+
+    @Override
+    public boolean next() throws IOException {
+      head = reader.readLine();
+      return head != null;
+    }
+
+    @Override
+    public void write(BufferedWriter writer) throws IOException {
+      writer.write(head);
+      writer.write('\n');
+    }
+
+    @Override
+    public int compareTo(Run<BufferedWriter> other) {
+      return head.compareTo(((LineRun) other).head);
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package com.sl.algorithms.sort.external;
+
+import com.sl.algorithms.core.interfaces.sort.PrimitiveSortingEngine;
+import com.sl.algorithms.sort.finitegroups.integersorting.RadixSort;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * <br>{@link FixedWidthExternalMergeSort} of binary long records: 8 bytes each, big-endian, as
+ * written by {@link DataOutputStream#writeLong(long)}.<br>
+ */
+public class LongExternalMergeSort extends FixedWidthExternalMergeSort<long[]> {
+
+  public LongExternalMergeSort() {
+    this(DEFAULT_MEMORY_BUDGET, DEFAULT_FAN_IN, null, new RadixSort<>());
+  }
+
+  public LongExternalMergeSort(long memoryBudget, int fanIn, Path tempDir,
+      PrimitiveSortingEngine sortingEngine) {
+    super(memoryBudget, fanIn, tempDir, sortingEngine, Long.BYTES);
+  }
+
+  @Override
+  protected long[] newChunk(int length) {
+    return new long[length];
+  }
+
+  @Override
+  protected long[] copyOf(long[] chunk, int length) {
+    return Arrays.copyOf(chunk, length);
+  }
+
+  @Override
+  protected void sortRecords(long[] chunk) {
+    sortingEngine.sort(chunk);
+  }
+
+  @Override
+  protected void decode(ByteBuffer buffer, long[] chunk, int offset, int count) {
+    buffer.asLongBuffer().get(chunk, offset, count);
+  }
+
+  @Override
+  protected void encode(long[] chunk, int offset, int count, ByteBuffer buffer) {
+    buffer.asLongBuffer().put(chunk, offset, count);
+  }
+
+  @Override
+  protected Run<DataOutputStream> run(DataInputStream reader) {
+    return new LongRun(reader);
+  }
+
+  private static class LongRun implements Run<DataOutputStream> {
+
+    private final DataInputStream reader;
+    private long head;
+
+    LongRun(DataInputStream reader) {
+      this.reader = reader;
+    }
+
+    @Override
+    public boolean next() throws IOException {
+      try {
+        head = reader.readLong();
+        return true;
+      } catch (EOFException eof) {
+        return false;
+      }
+    }
+
+    @Override
+    public void write(DataOutputStream writer) throws IOException {
+      writer.writeLong(head);
+    }
+
+    @Override
+    public int compareTo(Run<DataOutputStream> other) {
+      return Long.compare(head, ((LongRun) other).head);
+    }
+  }
+}
@@ -0,0 +1,282 @@
+package com.sl.algorithms.sort.external;
+
+import com.sl.algorithms.sort.finitegroups.integersorting.RadixSort;
+import com.sl.algorithms.sort.generalpurpose.QuickSort;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * <br>In-place sort of fixed-width binary records, right where they are: in a file mapped into
+ * memory, or in a {@link ByteBuffer}. A record is never turned into an object; its key is read
+ * from the buffer on every comparison, and records are swapped byte-wise.<br>
+ * <br><u>Records</u>:&nbsp;recordSize bytes each, with a long key at keyOffset: 8 bytes,
+ * big-endian, signed i.e. as written by {@link java.io.DataOutputStream#writeLong(long)}; the
+ * rest of the record is payload, which moves along with the key.<br>
+ * <br><u>Steps</u>: <br>(1) MSD radix sort on the key, one byte at a time, with the digits of
+ * the {@link RadixSort} (sign flipped on the top byte): count the records of every bucket, then
+ * permute the records into their buckets in place, one cycle at a time, as the
+ * {@link com.sl.algorithms.sort.finitegroups.stringsorting.AmericanFlagSort} does. A byte all
+ * the keys of a bucket share is skipped. <br>(2) buckets of up to
+ * {@link #QUICK_SORT_THRESHOLD} records are sorted by a quicksort of this class: a copy of the
+ * {@link QuickSort} partitioning (median-of-3 pivot, Hoare partition), which sorts an array of
+ * objects by int index and so cannot sort records by long index; recursion on the smaller side,
+ * then insertion sort.<br>
+ * <br><u>Large files</u>:&nbsp;a mapping is at most 2GB, so the file is mapped as a series of
+ * windows, each a power-of-2 number of records; records are addressed by a long index.<br>
+ * <br><u>Complexity</u>:&nbsp;O(n*8) record reads and at most n swaps per radix level, O(1)
+ * extra memory (besides 256 counters per bucket level). Non-stable.<br>
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/American_flag_sort">American flag sort</a>
+ */
+public class MappedRecordSort {
+
+  static final int QUICK_SORT_THRESHOLD = 1 << 10;
+  static final int INSERTION_SORT_THRESHOLD = 16;
+
+  private final int recordSize;
+  private final int keyOffset;
+  private final long windowSize;
+
+  public MappedRecordSort(int recordSize) {
+    this(recordSize, 0);
+  }
+
+  public MappedRecordSort(int recordSize, int keyOffset) {
+    this(recordSize, keyOffset, Integer.MAX_VALUE);
+  }
+
+  /**
+   * @param windowSize bytes mapped at a time, at most; rounded down to a power-of-2 number of
+   * records, so that a record index splits into (window, record in the window) by a shift
+   */
+  MappedRecordSort(int recordSize, int keyOffset, long windowSize) {
+    if (recordSize < Long.BYTES) {
+      throw new IllegalArgumentException("recordSize must be at least " + Long.BYTES);
+    }
+    if (keyOffset < 0 || keyOffset > recordSize - Long.BYTES) {
+      throw new IllegalArgumentException("key is out of the record");
+    }
+    if (windowSize < recordSize || windowSize > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("windowSize out of range");
+    }
+    this.recordSize = recordSize;
+    this.keyOffset = keyOffset;
+    this.windowSize = Long.highestOneBit(windowSize / recordSize) * recordSize;
+  }
+
+  /**
+   * <br>Sort the records of the file in place; the changes are forced to the storage device.<br>
+   */
+  public void sort(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ,
+        StandardOpenOption.WRITE)) {
+      long size = channel.size();
+      checkSize(size);
+      MappedByteBuffer[] windows = new MappedByteBuffer[(int) ((size + windowSize - 1)
+          / windowSize)];
+      for (int w = 0; w < windows.length; w++) {
+        long position = w * windowSize;
+        windows[w] = channel.map(MapMode.READ_WRITE, position, Math.min(windowSize,
+            size - position));
+      }
+      sort(new Records(windows));
+      for (MappedByteBuffer window : windows) {
+        window.force();
+      }
+    }
+  }
+
+  /**
+   * <br>Sort the records in [position, limit) of the buffer, in place.<br>
+   */
+  public void sort(ByteBuffer buffer) {
+    if (buffer == null) {
+      throw new IllegalArgumentException("buffer is null");
+    }
+    checkSize(buffer.remaining());
+    if (buffer.remaining() > windowSize) {
+      throw new IllegalArgumentException("buffer is larger than windowSize");
+    }
+    sort(new Records(new ByteBuffer[]{buffer.slice()}));
+  }
+
+  private void checkSize(long size) {
+    if (size % recordSize != 0) {
+      throw new IllegalArgumentException("size is not a whole number of records");
+    }
+  }
+
+  /**
+   * <br>Buckets are taken from a stack rather than by recursion, same as the
+   * {@link com.sl.algorithms.sort.finitegroups.stringsorting.AmericanFlagSort}.<br>
+   */
+  private void sort(Records records) {
+    Deque<long[]> buckets = new ArrayDeque<>();
+    buckets.push(new long[]{0, records.size, 0});
+    long[] count = new long[RadixSort.RADIX];
+    while (!buckets.isEmpty()) {
+      long[] bucket = buckets.pop();
+      long s = bucket[0];
+      long e = bucket[1];
+      int d = (int) bucket[2]; // bytes of the key shared by all the records of the bucket
+      while (e - s > QUICK_SORT_THRESHOLD && d < Long.BYTES && !hasDistinctDigits(records, s, e,
+          Long.BYTES - 1 - d, count)) {
+        d++;
+      }
+      if (e - s <= QUICK_SORT_THRESHOLD) {
+        quickSort(records, s, e - 1);
+        continue;
+      }
+      if (d == Long.BYTES) { // all the keys are equal
+        continue;
+      }
+      int p = Long.BYTES - 1 - d;
+      long[] next = new long[RadixSort.RADIX]; // next free slot of a bucket
+      long[] end = new long[RadixSort.RADIX];
+      long start = s;
+      for (int b = 0; b < RadixSort.RADIX; b++) {
+        next[b] = start;
+        start += count[b];
+        end[b] = start;
+      }
+      for (int b = 0; b < RadixSort.RADIX; b++) {
+        while (next[b] < end[b]) {
+          long i = next[b];
+          int target = RadixSort.digit(records.key(i), p);
+          if (target == b) {
+            next[b]++;
+          } else {
+            records.swap(i, next[target]++);
+          }
+        }
+      }
+      for (int b = 0; b < RadixSort.RADIX; b++) {
+        long from = b == 0 ? s : end[b - 1];
+        if (end[b] - from > 1) {
+          buckets.push(new long[]{from, end[b], d + 1});
+        }
+      }
+    }
+  }
+
+  /**
+   * <br>Count the records of [s, e) by their p-th byte.<br>
+   *
+   * @return false when all the records have the same byte
+   */
+  private static boolean hasDistinctDigits(Records records, long s, long e, int p, long[] count) {
+    Arrays.fill(count, 0);
+    for (long i = s; i < e; i++) {
+      count[RadixSort.digit(records.key(i), p)]++;
+    }
+    for (long c : count) {
+      if (c == e - s) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * <br>Copy of the {@link QuickSort} loop, on record indexes and keys.<br>
+   *
+   * @param s start index (inclusive)
+   * @param e end index (inclusive)
+   */
+  private void quickSort(Records records, long s, long e) {
+    while (e - s >= INSERTION_SORT_THRESHOLD) {
+      long p = partition(records, s, e);
+      if (p - s < e - p) { // recurse into the smaller side, iterate over the larger one
+        quickSort(records, s, p);
+        s = p + 1;
+      } else {
+        quickSort(records, p + 1, e);
+        e = p;
+      }
+    }
+    for (long i = s + 1; i <= e; i++) {
+      for (long j = i; j > s && records.key(j) < records.key(j - 1); j--) {
+        records.swap(j, j - 1);
+      }
+    }
+  }
+
+  private static long partition(Records records, long s, long e) {
+    long m = s + (e - s) / 2;
+    if (records.key(m) < records.key(s)) {
+      records.swap(s, m);
+    }
+    if (records.key(e) < records.key(m)) {
+      records.swap(m, e);
+      if (records.key(m) < records.key(s)) {
+        records.swap(s, m);
+      }
+    }
+    long pivot = records.key(m);
+    long i = s - 1;
+    long j = e + 1;
+    while (true) {
+      do {
+        i++;
+      } while (records.key(i) < pivot);
+      do {
+        j--;
+      } while (records.key(j) > pivot);
+      if (i >= j) {
+        return j;
+      }
+      records.swap(i, j);
+    }
+  }
+
+  /**
+   * <br>The records, across windows: record i lives in window i &gt;&gt;&gt; shift.<br>
+   */
+  private class Records {
+
+    private final ByteBuffer[] windows;
+    private final int shift;
+    private final long mask;
+    private final long size;
+    private final byte[] record1 = new byte[recordSize];
+    private final byte[] record2 = new byte[recordSize];
+
+    Records(ByteBuffer[] windows) {
+      this.windows = windows;
+      for (ByteBuffer window : windows) {
+        window.order(ByteOrder.BIG_ENDIAN);
+      }
+      this.shift = Long.numberOfTrailingZeros(windowSize / recordSize);
+      this.mask = (1L << shift) - 1;
+      long bytes = 0;
+      for (ByteBuffer window : windows) {
+        bytes += window.limit();
+      }
+      this.size = bytes / recordSize;
+    }
+
+    long key(long i) {
+      return windows[(int) (i >>> shift)].getLong((int) (i & mask) * recordSize + keyOffset);
+    }
+
+    void swap(long i, long j) {
+      ByteBuffer window1 = windows[(int) (i >>> shift)];
+      ByteBuffer window2 = windows[(int) (j >>> shift)];
+      int offset1 = (int) (i & mask) * recordSize;
+      int offset2 = (int) (j & mask) * recordSize;
+      window1.get(offset1, record1);
+      window2.get(offset2, record2);
+      window1.put(offset1, record2);
+      window2.put(offset2, record1);
+    }
+  }
+}
@@ -0,0 +1,6 @@
+/**
+ * <br>Sorts for inputs larger than the heap: sort what fits in memory, spill it to disk as a
+ * sorted run, and merge the runs.<br> <br><a
+ * href="https://en.wikipedia.org/wiki/External_sorting">Reference Reading</a>
+ */
+package com.sl.algorithms.sort.external;
@@ -0,0 +1,292 @@
+package com.sl.algorithms.sort.finitegroups.bucketsort;
+
+import com.sl.algorithms.core.interfaces.sort.PrimitiveSortingEngine;
+import com.sl.algorithms.core.interfaces.sort.SortingEngine;
+import com.sl.algorithms.core.list.ListNode;
+import com.sl.algorithms.sort.finitegroups.integersorting.RadixSort;
+import com.sl.algorithms.sort.generalpurpose.heap.HeapSort;
+import com.sl.algorithms.sort.generalpurpose.heap.HeapType;
+import com.sl.algorithms.sort.generalpurpose.smalldata.InsertionSort;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <br>{@link BucketSort} for floating-point numbers of any range and distribution, without
+ * boxing.<br>
+ * <br><u>Steps</u>: <br>(1) sample the input, and take equally spaced elements of the sorted
+ * sample as the bucket boundaries (splitters): each bucket then gets about the same number of
+ * elements, however skewed the input is. <br>(2) count the elements of every bucket, and turn the
+ * counts into the bucket offsets. <br>(3) scatter the elements into one flat double[] at those
+ * offsets, and copy them back. <br>(4) sort every bucket on its own, by the same steps, down to
+ * {@link #INSERTION_SORT_THRESHOLD} elements.<br>
+ * <br><u>Buckets</u>:&nbsp;about n / {@link #BUCKET_SIZE} of them, up to {@link #MAX_SPLITTERS}
+ * splitters. Every splitter also gets a bucket of its own, for the elements equal to it; such a
+ * bucket is sorted by construction, so a heavy hitter (sampled again and again) costs one pass.
+ * <br>
+ * <br><u>Parallel</u>:&nbsp;from {@link #DEFAULT_PARALLEL_THRESHOLD} elements, the buckets are
+ * sorted concurrently on a {@link ForkJoinPool}; they are disjoint ranges of the array.<br>
+ * <br><u>Worst case</u>:&nbsp;an unlucky sample can leave a bucket as big as its parent; buckets
+ * still unsorted after {@link #MAX_DEPTH} levels go to the {@link HeapSort}, hence O(n*log(n)).
+ * <br>
+ * <br><u>Complexity</u>:&nbsp;O(n*log(n/BUCKET_SIZE)/log(MAX_SPLITTERS)) levels of O(n) work on
+ * average i.e. near-linear; O(n) auxiliary space. Non-stable.<br>
+ * <br><u>Note</u>:&nbsp;Double[] is sorted by its values, which are written back into the
+ * array.<br>
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Samplesort">Samplesort</a>
+ */
+@SuppressWarnings("unchecked")
+public class AdaptiveBucketSort<T extends Double> implements SortingEngine<T>,
+    PrimitiveSortingEngine {
+
+  /**
+   * Below this, the parallel tasks cost more than they save.
+   */
+  public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+
+  static final int INSERTION_SORT_THRESHOLD = 32;
+  static final int BUCKET_SIZE = 64;
+  static final int MAX_SPLITTERS = 1 << 11;
+  static final int OVERSAMPLING = 8;
+  static final int MAX_DEPTH = 4;
+
+  private final InsertionSort<T> insertionSort = new InsertionSort<>();
+  private final HeapSort<T> heapSort = new HeapSort<>(HeapType.MAX_HEAP);
+  private final int parallelThreshold;
+  private final ForkJoinPool pool;
+
+  public AdaptiveBucketSort() {
+    this(DEFAULT_PARALLEL_THRESHOLD);
+  }
+
+  public AdaptiveBucketSort(int parallelThreshold) {
+    this(parallelThreshold, ForkJoinPool.commonPool());
+  }
+
+  public AdaptiveBucketSort(int parallelThreshold, ForkJoinPool pool) {
+    if (parallelThreshold < 1) {
+      throw new IllegalArgumentException("parallelThreshold must be at least 1");
+    }
+    if (pool == null) {
+      throw new IllegalArgumentException("pool is null");
+    }
+    this.parallelThreshold = parallelThreshold;
+    this.pool = pool;
+  }
+
+  @Override
+  public void sort(T[] objects) {
+    checkArray(objects);
+    int n = objects.length;
+    if (n == 1) {
+      return;
+    }
+    double[] nums = new double[n];
+    for (int i = 0; i < n; i++) {
+      nums[i] = objects[i];
+    }
+    sort(nums);
+    for (int i = 0; i < n; i++) {
+      objects[i] = (T) Double.valueOf(nums[i]);
+    }
+  }
+
+  @Override
+  public void sort(double[] nums) {
+    checkArray(nums);
+    int n = moveNaNsToEnd(nums);
+    if (n > 1) {
+      Buffers buffers = new Buffers(n);
+      if (n < parallelThreshold || pool.getParallelism() < 2) {
+        bucketSort(nums, 0, n, 0, buffers);
+      } else {
+        int[] offsets = distribute(nums, 0, n, buffers);
+        pool.invoke(new BucketRangeTask(nums, offsets, 0, offsets.length - 1, buffers));
+      }
+    }
+    orderSignedZeros(nums, n);
+  }
+
+  /**
+   * <br>The distribution of integer keys does not matter to the {@link RadixSort}, which is
+   * linear already; a long key could not even be bucketed by its double value without losing
+   * precision.<br>
+   */
+  @Override
+  public void sort(int[] nums) {
+    new RadixSort<>().sort(nums);
+  }
+
+  @Override
+  public void sort(long[] nums) {
+    new RadixSort<>().sort(nums);
+  }
+
+  /**
+   * <br>Sort nums[s, e) at the given recursion depth.<br>
+   */
+  private void bucketSort(double[] nums, int s, int e, int depth, Buffers buffers) {
+    if (e - s <= INSERTION_SORT_THRESHOLD) {
+      insertionSort.sort(nums, s, e - 1);
+      return;
+    }
+    if (depth == MAX_DEPTH) {
+      heapSort.sort(nums, s, e - 1);
+      return;
+    }
+    int[] offsets = distribute(nums, s, e, buffers);
+    for (int b = 0; b < offsets.length - 1; b++) {
+      if (!isEqualityBucket(b)) {
+        bucketSort(nums, offsets[b], offsets[b + 1], depth + 1, buffers);
+      }
+    }
+  }
+
+  /**
+   * <br>Steps (1) to (3): move the elements of nums[s, e) into their buckets.<br>
+   *
+   * @return start index of every bucket, followed by e
+   */
+  private int[] distribute(double[] nums, int s, int e, Buffers buffers) {
+    double[] splitters = splitters(nums, s, e);
+    int m = splitters.length;
+    int levels = Integer.SIZE - Integer.numberOfLeadingZeros(m);
+    double[] tree = splitterTree(splitters, levels);
+    int leaves = 1 << levels;
+    int[] bucketIds = buffers.bucketIds;
+    int[] offsets = new int[2 * m + 2];
+    for (int i = s; i < e; i++) {
+      double x = nums[i];
+      int node = 1;
+      for (int l = 0; l < levels; l++) { // no branch to mispredict: the comparison is an index
+        node = 2 * node + (tree[node] < x ? 1 : 0);
+      }
+      int j = node - leaves; // count of splitters < x
+      int b = 2 * j + (j < m && splitters[j] == x ? 1 : 0);
+      bucketIds[i] = b;
+      offsets[b + 1]++;
+    }
+    offsets[0] = s;
+    for (int b = 1; b < offsets.length; b++) {
+      offsets[b] += offsets[b - 1];
+    }
+    int[] next = offsets.clone();
+    double[] scatter = buffers.scatter;
+    for (int i = s; i < e; i++) {
+      scatter[next[bucketIds[i]]++] = nums[i];
+    }
+    System.arraycopy(scatter, s, nums, s, e - s);
+    return offsets;
+  }
+
+  /**
+   * @return distinct splitters, in increasing order
+   */
+  private double[] splitters(double[] nums, int s, int e) {
+    int n = e - s;
+    int buckets = Math.min(MAX_SPLITTERS + 1, Math.max(2, n / BUCKET_SIZE));
+    int sampleSize = Math.min(n, buckets * OVERSAMPLING);
+    double[] sample = new double[sampleSize];
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    for (int i = 0; i < sampleSize; i++) {
+      sample[i] = nums[random.nextInt(s, e)];
+    }
+    heapSort.sort(sample, 0, sampleSize - 1);
+    double[] splitters = new double[buckets - 1];
+    int m = 0;
+    for (int i = 1; i < buckets; i++) {
+      double splitter = sample[i * sampleSize / buckets];
+      if (m == 0 || splitter != splitters[m - 1]) {
+        splitters[m++] = splitter;
+      }
+    }
+    return m < splitters.length ? Arrays.copyOf(splitters, m) : splitters;
+  }
+
+  /**
+   * <br>Lay the splitters out as a complete binary search tree, in breadth-first order (root at
+   * 1, children of node i at 2i and 2i+1), padded with +Infinity. The search then walks down
+   * from the root with no branch at all, and the top levels share a few cache lines.<br>
+   * <br>Splitter j bounds 2 buckets: bucket 2j, of the elements in (splitter[j-1], splitter[j]),
+   * and bucket 2j+1, of the elements equal to splitter[j]. Bucket 2m is for the elements greater
+   * than the last splitter.<br>
+   */
+  private static double[] splitterTree(double[] splitters, int levels) {
+    double[] tree = new double[1 << levels];
+    fillTree(tree, 1, splitters, 0, (1 << levels) - 1);
+    return tree;
+  }
+
+  // in-order walk of the tree = the sorted order of the (padded) splitters [s, e)
+  private static void fillTree(double[] tree, int node, double[] splitters, int s, int e) {
+    if (s >= e) {
+      return;
+    }
+    int m = (s + e) >>> 1;
+    tree[node] = m < splitters.length ? splitters[m] : Double.POSITIVE_INFINITY;
+    fillTree(tree, 2 * node, splitters, s, m);
+    fillTree(tree, 2 * node + 1, splitters, m + 1, e);
+  }
+
+  private static boolean isEqualityBucket(int b) {
+    return (b & 1) == 1;
+  }
+
+  @Override
+  public ListNode<T> sortList(ListNode<T> head) {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * <br>Scratch space of a sort: index i is only ever used while sorting the bucket holding
+   * nums[i], hence the concurrent buckets share it without synchronization.<br>
+   */
+  private static class Buffers {
+
+    private final double[] scatter;
+    private final int[] bucketIds;
+
+    Buffers(int n) {
+      scatter = new double[n];
+      bucketIds = new int[n];
+    }
+  }
+
+  /**
+   * <br>Sorts the buckets [bs, be) of a single distribution: split in halves, as long as they hold
+   * at least parallelThreshold elements in all.<br>
+   */
+  private class BucketRangeTask extends RecursiveAction {
+
+    private final double[] nums;
+    private final int[] offsets;
+    private final int bs;
+    private final int be;
+    private final Buffers buffers;
+
+    BucketRangeTask(double[] nums, int[] offsets, int bs, int be, Buffers buffers) {
+      this.nums = nums;
+      this.offsets = offsets;
+      this.bs = bs;
+      this.be = be;
+      this.buffers = buffers;
+    }
+
+    @Override
+    protected void compute() {
+      if (be - bs > 1 && offsets[be] - offsets[bs] >= parallelThreshold) {
+        int bm = (bs + be) >>> 1;
+        invokeAll(new BucketRangeTask(nums, offsets, bs, bm, buffers),
+            new BucketRangeTask(nums, offsets, bm, be, buffers));
+        return;
+      }
+      for (int b = bs; b < be; b++) {
+        if (!isEqualityBucket(b)) {
+          bucketSort(nums, offsets[b], offsets[b + 1], 1, buffers);
+        }
+      }
+    }
+  }
+}
@@ -1,26 +1,39 @@
 package com.sl.algorithms.sort.finitegroups.integersorting;
 
-import com.sl.algorithms.core.interfaces.select.MedianFinder;
 import com.sl.algorithms.core.interfaces.sort.SortingEngine;
 import com.sl.algorithms.core.list.ListNode;
-import com.sl.algorithms.search.median.QuickSelectMedianFinder;
 
 /**
  * <br>A stable special-purpose integer-sort algorithm with linear time and space complexity =
- * O(N+kMax), the range of legit values in the array i.e. (0..kMax-1).<br>
+ * O(N+k), where k is the range of legit values in the array i.e. (min..max).<br>
  * <br><u>Inventor</u>:&nbsp;<a href="https://en.wikipedia.org/wiki/Harold_H._Seward">Harold H
- * Seward</a><br> <br><u>Note</u>:&nbsp;kMax is not significantly more than n (only then this algo
+ * Seward</a><br> <br><u>Note</u>:&nbsp;k is not significantly more than n (only then this algo
  * is advantageous). While I have implemented for integers, counting-sort can be used for any
- * elements as long as their key is an integer.<br> <br><a
+ * elements as long as their key is an integer.<br>
+ * <br><u>Range</u>:&nbsp;min and max are found in a single pass, and a value v is counted at
+ * index v-min, so negative values are fine. When the range is too wide for the counts (more than
+ * {@link #MAX_RANGE_TO_N} times n, or over {@link #MAX_RANGE}), the sort switches to the
+ * {@link RadixSort}, whose cost does not depend on the range.<br>
+ * <br><u>Primitives</u>:&nbsp;int[], short[] and byte[] are sorted without an output buffer:
+ * once counted, every value is written back as many times as it was counted.<br> <br><a
  * href="https://en.wikipedia.org/wiki/Counting_sort">Reference Reading 0</a> <br><a
  * href="https://brilliant.org/wiki/counting-sort/">Reference Reading 1</a>
  * <br><a href="https://stackoverflow.com/a/17111445/5775247">Reference Reading 2 (how stability is
  * achieved)</a> <br><a
  * href="http://www.cs.usfca.edu/~galles/visualization/CountingSort.html">Animation</a><br>
  */
-@SuppressWarnings("unchecked") // valueOf
+@SuppressWarnings("unchecked")
 public class CountingSort<T extends Integer> implements SortingEngine<T> {
 
+  /**
+   * Above this ratio of range to n, the counts cost more than the radix-sort passes.
+   */
+  public static final int MAX_RANGE_TO_N = 4;
+  /**
+   * Cap on the size of the counts, whatever the n.
+   */
+  public static final int MAX_RANGE = 1 << 24;
+
   @Override
   public void sort(T[] nums) {
     checkArray(nums);
@@ -28,46 +41,113 @@ public class CountingSort<T extends Integer> implements SortingEngine<T> {
     if (n == 1) {
       return;
     }
-    countSort(nums, n, 1, findMax(nums));
+    int min = nums[0];
+    int max = min;
+    for (T num : nums) {
+      min = Math.min(min, num);
+      max = Math.max(max, num);
+    }
+    if (!isCountable(min, max, n)) {
+      new RadixSort<T>().sort(nums);
+      return;
+    }
+    countSort(nums, min, max);
+  }
+
+  public void sort(int[] nums) {
+    checkIntArray(nums);
+    int n = nums.length;
+    if (n == 1) {
+      return;
+    }
+    int min = nums[0];
+    int max = min;
+    for (int num : nums) {
+      min = Math.min(min, num);
+      max = Math.max(max, num);
+    }
+    if (!isCountable(min, max, n)) {
+      new RadixSort<T>().sort(nums);
+      return;
+    }
+    int[] counts = new int[max - min + 1];
+    for (int num : nums) {
+      counts[num - min]++;
+    }
+    for (int v = 0, i = 0; v < counts.length; v++) {
+      for (int c = counts[v]; c > 0; c--) {
+        nums[i++] = min + v;
+      }
+    }
   }
 
   /**
-   * @param nums - array to be sorted
-   * @param n - size
-   * @param digit - the digit's place to use for sort, with defaultValue = 1
-   * @param kMax - the range of legit values in the array i.e. (0..kMax-1)
+   * <br>The range of a short is 2^16, so it is always counted, never radix-sorted.<br>
    */
-  void countSort(T[] nums, int n, int digit, int kMax) {
-    int[] counts = count(nums, digit, kMax);
-    T[] output = (T[]) new Integer[n];
-    for (int i = n - 1; i >= 0; i--) {
-      T obj = nums[i];
-      int j = getIndex(obj, digit);
-      output[counts[j] - 1] = obj;
-      --counts[j];
+  public void sort(short[] nums) {
+    if (nums == null || nums.length == 0) {
+      throw new IllegalArgumentException(ARRAY_IS_EMPTY);
+    }
+    int min = nums[0];
+    int max = min;
+    for (short num : nums) {
+      min = Math.min(min, num);
+      max = Math.max(max, num);
+    }
+    int[] counts = new int[max - min + 1];
+    for (short num : nums) {
+      counts[num - min]++;
+    }
+    for (int v = 0, i = 0; v < counts.length; v++) {
+      for (int c = counts[v]; c > 0; c--) {
+        nums[i++] = (short) (min + v);
+      }
     }
-    System.arraycopy(output, 0, nums, 0, n);
   }
 
-  private int[] count(T[] objects, int digitPlace, int kMax) {
-    int[] countArray = new int[kMax + 1];
-    for (T obj : objects) { // count
-      int i = getIndex(obj, digitPlace);
-      ++countArray[i];
+  public void sort(byte[] nums) {
+    if (nums == null || nums.length == 0) {
+      throw new IllegalArgumentException(ARRAY_IS_EMPTY);
     }
-    for (int i = 1; i <= kMax; i++) { // mark start-index for each element
-      countArray[i] += countArray[i - 1];
+    int[] counts = new int[1 << Byte.SIZE];
+    for (byte num : nums) {
+      counts[num - Byte.MIN_VALUE]++;
+    }
+    for (int v = 0, i = 0; v < counts.length; v++) {
+      for (int c = counts[v]; c > 0; c--) {
+        nums[i++] = (byte) (v + Byte.MIN_VALUE);
+      }
     }
-    return countArray;
   }
 
-  private int getIndex(int obj, int digitPlace) {
-    return (obj / digitPlace) % DECIMAL_RADIX;
+  /**
+   * <br>Stable: the elements are placed from the last one, at the last free slot of their value.
+   * <br>
+   *
+   * @param nums - array to be sorted
+   * @param min - smallest value in the array
+   * @param max - largest value in the array
+   */
+  void countSort(T[] nums, int min, int max) {
+    int n = nums.length;
+    int[] counts = new int[max - min + 1];
+    for (T num : nums) { // count
+      counts[num - min]++;
+    }
+    for (int i = 1; i < counts.length; i++) { // mark end-index for each value
+      counts[i] += counts[i - 1];
+    }
+    T[] output = (T[]) new Integer[n];
+    for (int i = n - 1; i >= 0; i--) {
+      T num = nums[i];
+      output[--counts[num - min]] = num;
+    }
+    System.arraycopy(output, 0, nums, 0, n);
   }
 
-  T findMax(T[] objects) {
-    MedianFinder<T> medianFinder = new QuickSelectMedianFinder<>();
-    return medianFinder.findMaximum(objects);
+  boolean isCountable(int min, int max, int n) {
+    long range = (long) max - min + 1;
+    return range <= Math.min((long) MAX_RANGE_TO_N * n, MAX_RANGE);
   }
 
   @Override
@@ -0,0 +1,204 @@
+package com.sl.algorithms.sort.finitegroups.integersorting;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * <p>Fork/Join flavour of the {@link RadixSort} for int[], long[] and double[], which keeps the
+ * sort stable.</p>
+ * <br><u>Steps</u>, for every byte: <br>(1) split the input into one contiguous chunk per thread,
+ * and count the digits of every chunk into a histogram of its own, concurrently. <br>(2) prefix
+ * sum, sequentially, over (digit, chunk): chunk c starts writing the elements with digit d right
+ * after those of the chunks before c, hence the scatter is stable. <br>(3) scatter every chunk
+ * into its slots, concurrently; the chunks write to disjoint slots, so no synchronization is
+ * needed.<br>
+ * <br><u>Passes</u>:&nbsp;a pass where all the elements share the same byte is skipped, same as
+ * for {@link RadixSort}.<br>
+ * <br><u>Complexity</u>: O(n*w/8/p) time on p cores; O(n) space for the scratch, plus 256
+ * counters per chunk.<br>
+ * <br><u>Note</u>:&nbsp;arrays below twice the parallel threshold, and Integer[], are sorted
+ * sequentially.<br>
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Radix_sort#Parallel_computing">Parallel radix
+ * sort</a>
+ */
+public class ParallelRadixSort<T extends Integer> extends RadixSort<T> {
+
+  /**
+   * Chunks smaller than this are not worth the overhead of a task.
+   */
+  public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+
+  private final int parallelThreshold;
+  private final ForkJoinPool pool;
+
+  public ParallelRadixSort() {
+    this(DEFAULT_PARALLEL_THRESHOLD);
+  }
+
+  public ParallelRadixSort(int parallelThreshold) {
+    this(parallelThreshold, ForkJoinPool.commonPool());
+  }
+
+  public ParallelRadixSort(int parallelThreshold, ForkJoinPool pool) {
+    if (parallelThreshold < 1) {
+      throw new IllegalArgumentException("parallelThreshold must be at least 1");
+    }
+    if (pool == null) {
+      throw new IllegalArgumentException("pool is null");
+    }
+    this.parallelThreshold = parallelThreshold;
+    this.pool = pool;
+  }
+
+  @Override
+  protected void radixSort(int[] nums, T[] objects) {
+    int n = nums.length;
+    int chunks = chunkCount(n);
+    if (objects != null || chunks < 2) {
+      super.radixSort(nums, objects);
+      return;
+    }
+    int chunkSize = (n + chunks - 1) / chunks;
+    int[][] counts = new int[chunks][RADIX];
+    int[] source = nums;
+    int[] target = new int[n];
+    for (int p = 0; p < Integer.BYTES; p++) {
+      int pass = p;
+      int[] from = source;
+      int[] to = target;
+      forEachChunk(chunks, c -> {
+        int[] count = counts[c];
+        Arrays.fill(count, 0);
+        for (int i = c * chunkSize, e = Math.min(n, i + chunkSize); i < e; i++) {
+          count[digit(from[i], pass)]++;
+        }
+      });
+      if (!toStartIndex(counts, n)) {
+        continue;
+      }
+      forEachChunk(chunks, c -> {
+        int[] next = counts[c];
+        for (int i = c * chunkSize, e = Math.min(n, i + chunkSize); i < e; i++) {
+          to[next[digit(from[i], pass)]++] = from[i];
+        }
+      });
+      target = source;
+      source = to;
+    }
+    if (source != nums) {
+      copy(source, nums, chunks, chunkSize);
+    }
+  }
+
+  @Override
+  protected void radixSort(long[] nums) {
+    int n = nums.length;
+    int chunks = chunkCount(n);
+    if (chunks < 2) {
+      super.radixSort(nums);
+      return;
+    }
+    int chunkSize = (n + chunks - 1) / chunks;
+    int[][] counts = new int[chunks][RADIX];
+    long[] source = nums;
+    long[] target = new long[n];
+    for (int p = 0; p < Long.BYTES; p++) {
+      int pass = p;
+      long[] from = source;
+      long[] to = target;
+      forEachChunk(chunks, c -> {
+        int[] count = counts[c];
+        Arrays.fill(count, 0);
+        for (int i = c * chunkSize, e = Math.min(n, i + chunkSize); i < e; i++) {
+          count[digit(from[i], pass)]++;
+        }
+      });
+      if (!toStartIndex(counts, n)) {
+        continue;
+      }
+      forEachChunk(chunks, c -> {
+        int[] next = counts[c];
+        for (int i = c * chunkSize, e = Math.min(n, i + chunkSize); i < e; i++) {
+          to[next[digit(from[i], pass)]++] = from[i];
+        }
+      });
+      target = source;
+      source = to;
+    }
+    if (source != nums) {
+      copy(source, nums, chunks, chunkSize);
+    }
+  }
+
+  // one chunk per thread, as long as every chunk gets at least parallelThreshold elements
+  private int chunkCount(int n) {
+    return Math.min(pool.getParallelism(), n / parallelThreshold);
+  }
+
+  /**
+   * <br>Per-chunk digit counts -&gt; index of the first element of that digit, in that chunk.<br>
+   *
+   * @return false when all the elements have the same digit, i.e. the pass is to be skipped
+   */
+  private static boolean toStartIndex(int[][] counts, int n) {
+    int sum = 0;
+    for (int d = 0; d < RADIX; d++) {
+      int digitStart = sum;
+      for (int[] count : counts) {
+        int c = count[d];
+        count[d] = sum;
+        sum += c;
+      }
+      if (sum - digitStart == n) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void copy(int[] source, int[] target, int chunks, int chunkSize) {
+    int n = source.length;
+    forEachChunk(chunks, c -> {
+      int s = c * chunkSize;
+      System.arraycopy(source, s, target, s, Math.max(0, Math.min(chunkSize, n - s)));
+    });
+  }
+
+  private void copy(long[] source, long[] target, int chunks, int chunkSize) {
+    int n = source.length;
+    forEachChunk(chunks, c -> {
+      int s = c * chunkSize;
+      System.arraycopy(source, s, target, s, Math.max(0, Math.min(chunkSize, n - s)));
+    });
+  }
+
+  private void forEachChunk(int chunks, IntConsumer body) {
+    pool.invoke(new ChunkTask(0, chunks, body));
+  }
+
+  private static class ChunkTask extends RecursiveAction {
+
+    private final int start;
+    private final int end;
+    private final IntConsumer body;
+
+    ChunkTask(int start, int end, IntConsumer body) {
+      this.start = start;
+      this.end = end;
+      this.body = body;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start == 1) {
+        body.accept(start);
+        return;
+      }
+      int m = (start + end) >>> 1;
+      invokeAll(new ChunkTask(start, m, body), new ChunkTask(m, end, body));
+    }
+  }
+}
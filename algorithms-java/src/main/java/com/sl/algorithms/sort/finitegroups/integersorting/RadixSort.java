@@ -1,13 +1,37 @@
 package com.sl.algorithms.sort.finitegroups.integersorting;
 
+import com.sl.algorithms.core.interfaces.sort.PrimitiveSortingEngine;
+import com.sl.algorithms.core.utils.KeySortOps;
+
 /**
- * <br>O((n+radix)*(log(kMax))) runtime performance integer sort algorithm, where radix=10 for this
- * specific implementation.<br> <br>Depends on {@link CountingSort}<br> <br><a
- * href="https://brilliant.org/wiki/radix-sort/">Reference 1</a> <br><a
+ * <br>O(n*w/8) runtime performance integer sort algorithm (LSD i.e. least significant digit
+ * first), where w is the width of the key in bits: every digit is a byte i.e. radix=256, so an int
+ * takes 4 counting-sort passes and a long takes 8.<br> <br>Every pass is a {@link CountingSort} on
+ * one byte.<br>
+ * <br><u>Negative numbers</u>:&nbsp;the sign bit of the top byte is flipped, so that negative
+ * numbers are placed ahead of the non-negative ones.<br>
+ * <br><u>Passes</u>:&nbsp;the counts of all the digits are taken in a single scan, up-front; a
+ * pass where all the elements share the same byte is skipped, so that e.g. small non-negative
+ * ints only take 1 or 2 passes.<br>
+ * <br><u>Buffers</u>:&nbsp;a single scratch array; the passes alternate between the input and the
+ * scratch, and the output is copied back only when the number of passes is odd.<br>
+ * <br><u>Primitives</u>:&nbsp;a double is sorted by its bits, mapped so that their order is that
+ * of {@link Double#compare(double, double)}; NaNs collapse into the canonical NaN.<br>
+ * <br><a href="https://brilliant.org/wiki/radix-sort/">Reference 1</a> <br><a
  * href="https://www.geeksforgeeks.org/radix-sort/">Reference 2</a>
  */
-public class RadixSort<T extends Integer> extends CountingSort<T> {
+@SuppressWarnings("unchecked")
+public class RadixSort<T extends Integer> extends CountingSort<T> implements
+    PrimitiveSortingEngine {
+
+  public static final int RADIX = 256;
+  static final int DIGIT_BITS = 8;
+  private static final int DIGIT_MASK = RADIX - 1;
+  private static final int SIGN_FLIP = RADIX >>> 1;
 
+  /**
+   * <br>Stable: the elements are moved along with their int keys.<br>
+   */
   @Override
   public void sort(T[] nums) {
     checkArray(nums);
@@ -15,10 +39,143 @@ public class RadixSort<T extends Integer> extends CountingSort<T> {
     if (n == 1) {
       return;
     }
-    int kMax = findMax(nums);
-    // e : digitPlace
-    for (int e = 1; kMax > 0; e *= DECIMAL_RADIX, kMax /= 10) {
-      countSort(nums, n, e, kMax);
+    int[] keys = new int[n];
+    for (int i = 0; i < n; i++) {
+      keys[i] = nums[i];
+    }
+    radixSort(keys, nums);
+  }
+
+  @Override
+  public void sort(int[] nums) {
+    checkArray(nums);
+    if (nums.length == 1) {
+      return;
+    }
+    radixSort(nums, null);
+  }
+
+  @Override
+  public void sort(long[] nums) {
+    checkArray(nums);
+    if (nums.length == 1) {
+      return;
+    }
+    radixSort(nums);
+  }
+
+  @Override
+  public void sort(double[] nums) {
+    checkArray(nums);
+    int n = nums.length;
+    if (n == 1) {
+      return;
+    }
+    long[] bits = new long[n];
+    for (int i = 0; i < n; i++) {
+      bits[i] = KeySortOps.sortableBits(nums[i]);
+    }
+    radixSort(bits);
+    for (int i = 0; i < n; i++) {
+      nums[i] = KeySortOps.fromSortableBits(bits[i]);
+    }
+  }
+
+  /**
+   * @param nums keys to be sorted
+   * @param objects elements to be moved along with their keys, or null
+   */
+  protected void radixSort(int[] nums, T[] objects) {
+    int n = nums.length;
+    int passes = Integer.SIZE / DIGIT_BITS;
+    int[][] counts = new int[passes][RADIX];
+    for (int x : nums) {
+      for (int p = 0; p < passes; p++) {
+        counts[p][digit(x, p)]++;
+      }
+    }
+    int[] source = nums;
+    int[] target = new int[n];
+    T[] sourceObjects = objects;
+    T[] targetObjects = objects == null ? null : (T[]) new Integer[n];
+    for (int p = 0; p < passes; p++) {
+      int[] count = counts[p];
+      if (count[digit(source[0], p)] == n) { // every element has the same digit
+        continue;
+      }
+      toStartIndex(count);
+      for (int i = 0; i < n; i++) {
+        int at = count[digit(source[i], p)]++;
+        target[at] = source[i];
+        if (objects != null) {
+          targetObjects[at] = sourceObjects[i];
+        }
+      }
+      int[] sorted = target;
+      target = source;
+      source = sorted;
+      T[] sortedObjects = targetObjects;
+      targetObjects = sourceObjects;
+      sourceObjects = sortedObjects;
+    }
+    if (source != nums) {
+      System.arraycopy(source, 0, nums, 0, n);
+      if (objects != null) {
+        System.arraycopy(sourceObjects, 0, objects, 0, n);
+      }
+    }
+  }
+
+  protected void radixSort(long[] nums) {
+    int n = nums.length;
+    int passes = Long.SIZE / DIGIT_BITS;
+    int[][] counts = new int[passes][RADIX];
+    for (long x : nums) {
+      for (int p = 0; p < passes; p++) {
+        counts[p][digit(x, p)]++;
+      }
+    }
+    long[] source = nums;
+    long[] target = new long[n];
+    for (int p = 0; p < passes; p++) {
+      int[] count = counts[p];
+      if (count[digit(source[0], p)] == n) {
+        continue;
+      }
+      toStartIndex(count);
+      for (int i = 0; i < n; i++) {
+        target[count[digit(source[i], p)]++] = source[i];
+      }
+      long[] sorted = target;
+      target = source;
+      source = sorted;
+    }
+    if (source != nums) {
+      System.arraycopy(source, 0, nums, 0, n);
+    }
+  }
+
+  /**
+   * <br>The p-th byte, from the least significant one; the sign bit is flipped on the most
+   * significant one, so that the digits order the same as the signed numbers.<br>
+   */
+  public static int digit(int x, int p) {
+    int d = (x >>> (p * DIGIT_BITS)) & DIGIT_MASK;
+    return p == Integer.BYTES - 1 ? d ^ SIGN_FLIP : d;
+  }
+
+  public static int digit(long x, int p) {
+    int d = (int) (x >>> (p * DIGIT_BITS)) & DIGIT_MASK;
+    return p == Long.BYTES - 1 ? d ^ SIGN_FLIP : d;
+  }
+
+  // digit counts -> index of the first element with that digit
+  static void toStartIndex(int[] count) {
+    int sum = 0;
+    for (int d = 0; d < RADIX; d++) {
+      int c = count[d];
+      count[d] = sum;
+      sum += c;
     }
   }
 }
@@ -0,0 +1,184 @@
+package com.sl.algorithms.sort.finitegroups.stringsorting;
+
+import com.sl.algorithms.core.interfaces.sort.SortingEngine;
+import com.sl.algorithms.core.list.ListNode;
+import com.sl.algorithms.sort.generalpurpose.smalldata.InsertionSort;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * <br>In-place MSD (most significant digit first) radix sort, for String and byte[] keys.<br>
+ * <br><u>Steps</u>: <br>(1) count the keys by their character at position d; a key shorter than
+ * d+1 counts as the smallest 'end-of-key' digit. <br>(2) permute the keys into their buckets in
+ * place, one cycle at a time, as the stripes of a flag are painted (hence the name). <br>(3) the
+ * keys of a bucket share their first d+1 characters, so sort every bucket on position d+1; the
+ * 'end-of-key' bucket holds equal keys, hence is done.<br>
+ * <br><u>Shared prefixes</u>:&nbsp;a character is only ever looked at once per key, whereas a
+ * comparison sort compares the common prefix of two keys at every level. When all the keys of a
+ * bucket have the same character at d, the bucket moves on to d+1 without a permutation.<br>
+ * <br><u>Small buckets</u>:&nbsp;are sorted with {@link InsertionSort}, comparing the keys from
+ * position d onwards only.<br>
+ * <br><u>Order</u>:&nbsp;same as {@link String#compareTo(String)} for Strings (by UTF-16 code
+ * unit); unsigned, lexicographic for byte[] i.e. same as
+ * {@link java.util.Arrays#compareUnsigned(byte[], byte[])}.<br>
+ * <br><u>Complexity</u>:&nbsp;O(n*w) time, where w is the average length of the distinguishing
+ * prefix of a key; O(n) auxiliary space for the cached digits. Non-stable.<br>
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/American_flag_sort">American flag sort</a>
+ */
+public class AmericanFlagSort<T extends String> implements SortingEngine<T> {
+
+  private static final int INSERTION_SORT_THRESHOLD = 32;
+
+  private static final KeyDigits<String> STRING_DIGITS = new KeyDigits<String>() {
+    @Override
+    public int digit(String key, int d) {
+      return d < key.length() ? key.charAt(d) + 1 : 0;
+    }
+
+    @Override
+    public int compare(String key1, String key2, int d) {
+      int n = Math.min(key1.length(), key2.length());
+      for (int i = d; i < n; i++) {
+        int diff = key1.charAt(i) - key2.charAt(i);
+        if (diff != 0) {
+          return diff;
+        }
+      }
+      return key1.length() - key2.length();
+    }
+  };
+
+  private static final KeyDigits<byte[]> BYTES_DIGITS = new KeyDigits<byte[]>() {
+    @Override
+    public int digit(byte[] key, int d) {
+      return d < key.length ? (key[d] & 0xFF) + 1 : 0;
+    }
+
+    @Override
+    public int compare(byte[] key1, byte[] key2, int d) {
+      int n = Math.min(key1.length, key2.length);
+      for (int i = d; i < n; i++) {
+        int diff = (key1[i] & 0xFF) - (key2[i] & 0xFF);
+        if (diff != 0) {
+          return diff;
+        }
+      }
+      return key1.length - key2.length;
+    }
+  };
+
+  private final InsertionSort<T> insertionSort = new InsertionSort<>();
+
+  @Override
+  public void sort(T[] keys) {
+    checkArray(keys);
+    if (keys.length == 1) {
+      return;
+    }
+    americanFlagSort(keys, STRING_DIGITS);
+  }
+
+  public void sort(byte[][] keys) {
+    checkArray(keys);
+    if (keys.length == 1) {
+      return;
+    }
+    americanFlagSort(keys, BYTES_DIGITS);
+  }
+
+  /**
+   * <br>Buckets are taken from a stack rather than by recursion, as long shared prefixes would
+   * otherwise mean a deep call stack.<br>
+   */
+  private <E> void americanFlagSort(E[] keys, KeyDigits<? super E> keyDigits) {
+    int[] digits = new int[keys.length]; // digit of keys[i] at the current position
+    Deque<int[]> buckets = new ArrayDeque<>();
+    buckets.push(new int[]{0, keys.length, 0});
+    while (!buckets.isEmpty()) {
+      int[] bucket = buckets.pop();
+      int lo = bucket[0];
+      int hi = bucket[1];
+      int d = bucket[2];
+      while (hi - lo > INSERTION_SORT_THRESHOLD) {
+        int min = Integer.MAX_VALUE;
+        int max = 0;
+        for (int i = lo; i < hi; i++) {
+          int digit = keyDigits.digit(keys[i], d);
+          digits[i] = digit;
+          min = Math.min(min, digit);
+          max = Math.max(max, digit);
+        }
+        if (min == max) { // shared character (or all the keys are equal): nothing to permute
+          if (min == 0) {
+            break;
+          }
+          d++;
+          continue;
+        }
+        int[] next = new int[max - min + 1]; // next free slot of a bucket
+        int[] end = new int[max - min + 1];
+        for (int i = lo; i < hi; i++) {
+          end[digits[i] - min]++;
+        }
+        int start = lo;
+        for (int b = 0; b < end.length; b++) {
+          next[b] = start;
+          start += end[b];
+          end[b] = start;
+        }
+        for (int b = 0; b < end.length; b++) {
+          while (next[b] < end[b]) {
+            int i = next[b];
+            int target = digits[i] - min;
+            if (target == b) {
+              next[b]++;
+              continue;
+            }
+            int j = next[target]++; // swap keys[i] into its bucket, and bring keys[j] over to i
+            E key = keys[i];
+            keys[i] = keys[j];
+            keys[j] = key;
+            digits[i] = digits[j];
+            digits[j] = target + min;
+          }
+        }
+        int from = min == 0 ? 1 : 0; // the 'end-of-key' bucket is done
+        for (int b = end.length - 1; b > from; b--) {
+          int s = end[b - 1];
+          if (end[b] - s > 1) {
+            buckets.push(new int[]{s, end[b], d + 1});
+          }
+        }
+        hi = end[from];
+        lo = from == 0 ? lo : end[0];
+        d++;
+      }
+      if (hi - lo > 1 && hi - lo <= INSERTION_SORT_THRESHOLD) {
+        int offset = d;
+        insertionSort.sort(keys, lo, hi - 1, (k1, k2) -> keyDigits.compare(k1, k2, offset));
+      }
+    }
+  }
+
+  @Override
+  public ListNode<T> sortList(ListNode<T> head) {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * <br>Character-wise view of a key.<br>
+   */
+  private interface KeyDigits<E> {
+
+    /**
+     * @return 1 + the character at position d, or 0 past the end of the key
+     */
+    int digit(E key, int d);
+
+    /**
+     * <br>Compare 2 keys which are known to share their first d characters.<br>
+     */
+    int compare(E key1, E key2, int d);
+  }
+}
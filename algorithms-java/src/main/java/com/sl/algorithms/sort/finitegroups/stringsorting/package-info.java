@@ -0,0 +1,6 @@
+/**
+ * <br>Sorts that look at a key one character (or byte) at a time, instead of comparing whole
+ * keys.<br> <br><a href="https://en.wikipedia.org/wiki/Radix_sort#Most_significant_digit">Reference
+ * Reading</a> <br><a href="https://algs4.cs.princeton.edu/51radix/">Reference Reading 2</a>
+ */
+package com.sl.algorithms.sort.finitegroups.stringsorting;
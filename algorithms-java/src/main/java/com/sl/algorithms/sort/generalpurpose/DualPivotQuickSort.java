@@ -0,0 +1,364 @@
+package com.sl.algorithms.sort.generalpurpose;
+
+import static com.sl.algorithms.core.utils.ArrayOps.swap;
+
+import com.sl.algorithms.core.interfaces.sort.PrimitiveSortingEngine;
+import com.sl.algorithms.core.interfaces.sort.SortingEngine;
+import com.sl.algorithms.core.list.ListNode;
+import com.sl.algorithms.sort.generalpurpose.smalldata.InsertionSort;
+import java.util.Comparator;
+
+/**
+ * <br>Dual-pivot variant of {@link QuickSort}, non-stable, with an average time complexity of
+ * O(nlogn).<br> <br><u>Inventor</u>:&nbsp;Vladimir Yaroslavskiy<br> <br><u>Steps</u>: <br>(1) pick
+ * 2 pivots p &lt;= q, from the tertiles of the range. <br>(2) partition in a single pass into
+ * [&lt; p | p &lt;= x &lt;= q | &gt; q]. <br>(3) when the middle part is over 2/3 of the range,
+ * move the keys equal to p or q out of it, to either end; otherwise, with only 2 distinct keys,
+ * every pass would take just the 2 pivots out of the range, for O(n^2) time. <br>(4) sort the 3
+ * parts; the middle one is skipped when p == q, as it only holds keys equal to the pivots.
+ * <br>(5) switch to {@link InsertionSort} for small partitions.<br> <br>Compared with a single
+ * pivot, the recursion tree has log3(n) rather than log2(n) levels, for fewer element scans
+ * overall, which is what makes it cache-friendlier. Only the 2 smaller parts are recursed into
+ * i.e. O(logn) stack.<br> <br><a
+ * href="https://web.archive.org/web/20151002230717/http://iaroslavski.narod.ru/quicksort/DualPivotQuicksort.pdf">Reference</a>
+ */
+public class DualPivotQuickSort<T extends Comparable> implements SortingEngine<T>,
+    PrimitiveSortingEngine {
+
+  private static final int INSERTION_SORT_THRESHOLD = 24;
+
+  private final InsertionSort<T> insertionSort = new InsertionSort<>();
+
+  @Override
+  public void sort(T[] objects) {
+    sort(objects, naturalOrder());
+  }
+
+  @Override
+  public <E> void sort(E[] objects, Comparator<? super E> comparator) {
+    checkArray(objects);
+    checkComparator(comparator);
+    int n = objects.length;
+    if (n == 1) {
+      return;
+    }
+    dualPivotQuickSort(objects, 0, n - 1, comparator);
+  }
+
+  @Override
+  public void sort(int[] nums) {
+    checkArray(nums);
+    dualPivotQuickSort(nums, 0, nums.length - 1);
+  }
+
+  @Override
+  public void sort(long[] nums) {
+    checkArray(nums);
+    dualPivotQuickSort(nums, 0, nums.length - 1);
+  }
+
+  @Override
+  public void sort(double[] nums) {
+    checkArray(nums);
+    int n = moveNaNsToEnd(nums);
+    dualPivotQuickSort(nums, 0, n - 1);
+    orderSignedZeros(nums, n);
+  }
+
+  private <E> void dualPivotQuickSort(E[] a, int s, int e, Comparator<? super E> comparator) {
+    while (e - s >= INSERTION_SORT_THRESHOLD) {
+      int third = (e - s) / 3;
+      swap(a, s, s + third);
+      swap(a, e, e - third);
+      if (comparator.compare(a[s], a[e]) > 0) {
+        swap(a, s, e);
+      }
+      E p = a[s];
+      E q = a[e];
+      int lt = s + 1; // a[s+1..lt) < p
+      int gt = e - 1; // a(gt..e-1] > q
+      for (int k = lt; k <= gt; k++) {
+        if (comparator.compare(a[k], p) < 0) {
+          swap(a, k, lt++);
+        } else if (comparator.compare(a[k], q) > 0) {
+          while (k < gt && comparator.compare(a[gt], q) > 0) {
+            gt--;
+          }
+          swap(a, k, gt--);
+          if (comparator.compare(a[k], p) < 0) {
+            swap(a, k, lt++);
+          }
+        }
+      }
+      swap(a, s, --lt);
+      swap(a, e, ++gt);
+      // a[s..lt) < p == a[lt], a(lt..gt) in [p, q], q == a[gt] < a(gt..e]
+      boolean distinctPivots = comparator.compare(p, q) < 0;
+      int ms = lt + 1;
+      int me = gt - 1;
+      if (distinctPivots && me - ms > 2 * (e - s) / 3) {
+        // a large middle part is likely full of p and q: move them next to the pivots, i.e.
+        // to their final place, a(lt..ms) == p and a(me..gt) == q
+        for (int k = ms; k <= me; k++) {
+          if (comparator.compare(a[k], p) == 0) {
+            swap(a, k, ms++);
+          } else if (comparator.compare(a[k], q) == 0) {
+            while (k < me && comparator.compare(a[me], q) == 0) {
+              me--;
+            }
+            swap(a, k, me--);
+            if (comparator.compare(a[k], p) == 0) {
+              swap(a, k, ms++);
+            }
+          }
+        }
+      }
+      int left = lt - s;
+      int middle = distinctPivots ? me - ms + 1 : 0;
+      int right = e - gt;
+      if (left >= middle && left >= right) {
+        if (distinctPivots) {
+          dualPivotQuickSort(a, ms, me, comparator);
+        }
+        dualPivotQuickSort(a, gt + 1, e, comparator);
+        e = lt - 1;
+      } else if (right >= middle) {
+        dualPivotQuickSort(a, s, lt - 1, comparator);
+        if (distinctPivots) {
+          dualPivotQuickSort(a, ms, me, comparator);
+        }
+        s = gt + 1;
+      } else {
+        dualPivotQuickSort(a, s, lt - 1, comparator);
+        dualPivotQuickSort(a, gt + 1, e, comparator);
+        s = ms;
+        e = me;
+      }
+    }
+    insertionSort.sort(a, s, e, comparator);
+  }
+
+  private void dualPivotQuickSort(int[] a, int s, int e) {
+    while (e - s >= INSERTION_SORT_THRESHOLD) {
+      int third = (e - s) / 3;
+      swap(a, s, s + third);
+      swap(a, e, e - third);
+      if (a[s] > a[e]) {
+        swap(a, s, e);
+      }
+      int p = a[s];
+      int q = a[e];
+      int lt = s + 1; // a[s+1..lt) < p
+      int gt = e - 1; // a(gt..e-1] > q
+      for (int k = lt; k <= gt; k++) {
+        if (a[k] < p) {
+          swap(a, k, lt++);
+        } else if (a[k] > q) {
+          while (k < gt && a[gt] > q) {
+            gt--;
+          }
+          swap(a, k, gt--);
+          if (a[k] < p) {
+            swap(a, k, lt++);
+          }
+        }
+      }
+      swap(a, s, --lt);
+      swap(a, e, ++gt);
+      // a[s..lt) < p == a[lt], a(lt..gt) in [p, q], q == a[gt] < a(gt..e]
+      boolean distinctPivots = p < q;
+      int ms = lt + 1;
+      int me = gt - 1;
+      if (distinctPivots && me - ms > 2 * (e - s) / 3) {
+        // a large middle part is likely full of p and q: move them next to the pivots, i.e.
+        // to their final place, a(lt..ms) == p and a(me..gt) == q
+        for (int k = ms; k <= me; k++) {
+          if (a[k] == p) {
+            swap(a, k, ms++);
+          } else if (a[k] == q) {
+            while (k < me && a[me] == q) {
+              me--;
+            }
+            swap(a, k, me--);
+            if (a[k] == p) {
+              swap(a, k, ms++);
+            }
+          }
+        }
+      }
+      int left = lt - s;
+      int middle = distinctPivots ? me - ms + 1 : 0;
+      int right = e - gt;
+      if (left >= middle && left >= right) {
+        if (distinctPivots) {
+          dualPivotQuickSort(a, ms, me);
+        }
+        dualPivotQuickSort(a, gt + 1, e);
+        e = lt - 1;
+      } else if (right >= middle) {
+        dualPivotQuickSort(a, s, lt - 1);
+        if (distinctPivots) {
+          dualPivotQuickSort(a, ms, me);
+        }
+        s = gt + 1;
+      } else {
+        dualPivotQuickSort(a, s, lt - 1);
+        dualPivotQuickSort(a, gt + 1, e);
+        s = ms;
+        e = me;
+      }
+    }
+    insertionSort.sort(a, s, e);
+  }
+
+  private void dualPivotQuickSort(long[] a, int s, int e) {
+    while (e - s >= INSERTION_SORT_THRESHOLD) {
+      int third = (e - s) / 3;
+      swap(a, s, s + third);
+      swap(a, e, e - third);
+      if (a[s] > a[e]) {
+        swap(a, s, e);
+      }
+      long p = a[s];
+      long q = a[e];
+      int lt = s + 1; // a[s+1..lt) < p
+      int gt = e - 1; // a(gt..e-1] > q
+      for (int k = lt; k <= gt; k++) {
+        if (a[k] < p) {
+          swap(a, k, lt++);
+        } else if (a[k] > q) {
+          while (k < gt && a[gt] > q) {
+            gt--;
+          }
+          swap(a, k, gt--);
+          if (a[k] < p) {
+            swap(a, k, lt++);
+          }
+        }
+      }
+      swap(a, s, --lt);
+      swap(a, e, ++gt);
+      // a[s..lt) < p == a[lt], a(lt..gt) in [p, q], q == a[gt] < a(gt..e]
+      boolean distinctPivots = p < q;
+      int ms = lt + 1;
+      int me = gt - 1;
+      if (distinctPivots && me - ms > 2 * (e - s) / 3) {
+        // a large middle part is likely full of p and q: move them next to the pivots, i.e.
+        // to their final place, a(lt..ms) == p and a(me..gt) == q
+        for (int k = ms; k <= me; k++) {
+          if (a[k] == p) {
+            swap(a, k, ms++);
+          } else if (a[k] == q) {
+            while (k < me && a[me] == q) {
+              me--;
+            }
+            swap(a, k, me--);
+            if (a[k] == p) {
+              swap(a, k, ms++);
+            }
+          }
+        }
+      }
+      int left = lt - s;
+      int middle = distinctPivots ? me - ms + 1 : 0;
+      int right = e - gt;
+      if (left >= middle && left >= right) {
+        if (distinctPivots) {
+          dualPivotQuickSort(a, ms, me);
+        }
+        dualPivotQuickSort(a, gt + 1, e);
+        e = lt - 1;
+      } else if (right >= middle) {
+        dualPivotQuickSort(a, s, lt - 1);
+        if (distinctPivots) {
+          dualPivotQuickSort(a, ms, me);
+        }
+        s = gt + 1;
+      } else {
+        dualPivotQuickSort(a, s, lt - 1);
+        dualPivotQuickSort(a, gt + 1, e);
+        s = ms;
+        e = me;
+      }
+    }
+    insertionSort.sort(a, s, e);
+  }
+
+  private void dualPivotQuickSort(double[] a, int s, int e) {
+    while (e - s >= INSERTION_SORT_THRESHOLD) {
+      int third = (e - s) / 3;
+      swap(a, s, s + third);
+      swap(a, e, e - third);
+      if (a[s] > a[e]) {
+        swap(a, s, e);
+      }
+      double p = a[s];
+      double q = a[e];
+      int lt = s + 1; // a[s+1..lt) < p
+      int gt = e - 1; // a(gt..e-1] > q
+      for (int k = lt; k <= gt; k++) {
+        if (a[k] < p) {
+          swap(a, k, lt++);
+        } else if (a[k] > q) {
+          while (k < gt && a[gt] > q) {
+            gt--;
+          }
+          swap(a, k, gt--);
+          if (a[k] < p) {
+            swap(a, k, lt++);
+          }
+        }
+      }
+      swap(a, s, --lt);
+      swap(a, e, ++gt);
+      // a[s..lt) < p == a[lt], a(lt..gt) in [p, q], q == a[gt] < a(gt..e]
+      boolean distinctPivots = p < q;
+      int ms = lt + 1;
+      int me = gt - 1;
+      if (distinctPivots && me - ms > 2 * (e - s) / 3) {
+        // a large middle part is likely full of p and q: move them next to the pivots, i.e.
+        // to their final place, a(lt..ms) == p and a(me..gt) == q
+        for (int k = ms; k <= me; k++) {
+          if (a[k] == p) {
+            swap(a, k, ms++);
+          } else if (a[k] == q) {
+            while (k < me && a[me] == q) {
+              me--;
+            }
+            swap(a, k, me--);
+            if (a[k] == p) {
+              swap(a, k, ms++);
+            }
+          }
+        }
+      }
+      int left = lt - s;
+      int middle = distinctPivots ? me - ms + 1 : 0;
+      int right = e - gt;
+      if (left >= middle && left >= right) {
+        if (distinctPivots) {
+          dualPivotQuickSort(a, ms, me);
+        }
+        dualPivotQuickSort(a, gt + 1, e);
+        e = lt - 1;
+      } else if (right >= middle) {
+        dualPivotQuickSort(a, s, lt - 1);
+        if (distinctPivots) {
+          dualPivotQuickSort(a, ms, me);
+        }
+        s = gt + 1;
+      } else {
+        dualPivotQuickSort(a, s, lt - 1);
+        dualPivotQuickSort(a, gt + 1, e);
+        s = ms;
+        e = me;
+      }
+    }
+    insertionSort.sort(a, s, e);
+  }
+
+  @Override
+  public ListNode<T> sortList(ListNode<T> head) {
+    throw new UnsupportedOperationException();
+  }
+}
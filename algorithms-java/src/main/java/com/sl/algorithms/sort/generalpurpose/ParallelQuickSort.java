@@ -0,0 +1,108 @@
+package com.sl.algorithms.sort.generalpurpose;
+
+import com.sl.algorithms.core.interfaces.select.PartitionScheme;
+import com.sl.algorithms.core.interfaces.select.QuickSelect;
+import com.sl.algorithms.core.interfaces.sort.SortingEngine;
+import com.sl.algorithms.core.list.ListNode;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <br>Fork/Join flavour of {@link QuickSort}: both sides of a pivot are disjoint, so they can be
+ * sorted concurrently.<br> <br><u>Steps</u>: <br>(1) partition around the median-of-3 with the
+ * {@link PartitionScheme#THREE_WAY} scheme: the keys equal to the pivot are in their final place
+ * and are left out of both sides. <br>(2) while a side is larger than the parallel threshold,
+ * fork both sides onto the {@link ForkJoinPool}. <br>(3) below the threshold, or once the tasks
+ * are 2*floor(log2(n)) deep, sort sequentially with the introspective, three-way
+ * {@link QuickSort}, which falls back to heap-sort.<br> <br><u>Duplicates</u>:&nbsp;with few
+ * distinct keys, a two-way partition splits off one element at a time, and the tasks nest about
+ * n deep; the three-way partition and the depth budget keep it at O(logn).<br>
+ * <br><u>Complexity</u>: O(nlogn/p) average time on p cores, with the top-level partition, O(n),
+ * being the sequential part.<br>
+ *
+ * @see <a href="https://docs.oracle.com/javase/tutorial/essential/concurrency/forkjoin.html">Fork/Join</a>
+ */
+public class ParallelQuickSort<T extends Comparable> implements SortingEngine<T>,
+    QuickSelect<T> {
+
+  /**
+   * Partitions smaller than this are not worth the overhead of a task.
+   */
+  public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 13;
+
+  private final int parallelThreshold;
+  private final ForkJoinPool pool;
+  private final QuickSort<T> quickSort = new QuickSort<>(QuickSortMode.INTROSPECTIVE,
+      PartitionScheme.THREE_WAY);
+
+  public ParallelQuickSort() {
+    this(DEFAULT_PARALLEL_THRESHOLD);
+  }
+
+  public ParallelQuickSort(int parallelThreshold) {
+    this(parallelThreshold, ForkJoinPool.commonPool());
+  }
+
+  public ParallelQuickSort(int parallelThreshold, ForkJoinPool pool) {
+    if (parallelThreshold < 2) {
+      throw new IllegalArgumentException("parallelThreshold must be at least 2");
+    }
+    if (pool == null) {
+      throw new IllegalArgumentException("pool is null");
+    }
+    this.parallelThreshold = parallelThreshold;
+    this.pool = pool;
+  }
+
+  @Override
+  public void sort(T[] objects) {
+    sort(objects, naturalOrder());
+  }
+
+  @Override
+  public <E> void sort(E[] objects, Comparator<? super E> comparator) {
+    checkArray(objects);
+    checkComparator(comparator);
+    int n = objects.length;
+    if (n == 1) {
+      return;
+    }
+    int depth = 2 * (31 - Integer.numberOfLeadingZeros(n));
+    pool.invoke(new QuickSortTask<>(objects, 0, n - 1, depth, comparator));
+  }
+
+  @Override
+  public ListNode<T> sortList(ListNode<T> head) {
+    throw new UnsupportedOperationException();
+  }
+
+  private class QuickSortTask<E> extends RecursiveAction {
+
+    private final E[] objects;
+    private final int start;
+    private final int end;
+    private final int depth; // remaining levels of tasks
+    private final Comparator<? super E> comparator;
+
+    QuickSortTask(E[] objects, int start, int end, int depth, Comparator<? super E> comparator) {
+      this.objects = objects;
+      this.start = start;
+      this.end = end;
+      this.depth = depth;
+      this.comparator = comparator;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start < parallelThreshold || depth == 0) {
+        quickSort.sort(objects, start, end, comparator);
+        return;
+      }
+      int[] equal = threeWayPartition(objects, start, end,
+          medianOf3(objects, start, end, comparator), comparator);
+      invokeAll(new QuickSortTask<>(objects, start, equal[0] - 1, depth - 1, comparator),
+          new QuickSortTask<>(objects, equal[1] + 1, end, depth - 1, comparator));
+    }
+  }
+}
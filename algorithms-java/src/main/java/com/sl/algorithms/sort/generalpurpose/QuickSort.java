@@ -1,8 +1,17 @@
 package com.sl.algorithms.sort.generalpurpose;
 
+import static com.sl.algorithms.core.utils.ArrayOps.swap;
+import static com.sl.algorithms.core.utils.Formulas.midPoint;
+
+import com.sl.algorithms.core.interfaces.select.PartitionScheme;
 import com.sl.algorithms.core.interfaces.select.QuickSelect;
+import com.sl.algorithms.core.interfaces.sort.PrimitiveSortingEngine;
 import com.sl.algorithms.core.interfaces.sort.SortingEngine;
 import com.sl.algorithms.core.list.ListNode;
+import com.sl.algorithms.sort.generalpurpose.heap.HeapSort;
+import com.sl.algorithms.sort.generalpurpose.heap.HeapType;
+import com.sl.algorithms.sort.generalpurpose.smalldata.InsertionSort;
+import java.util.Comparator;
 
 /**
  * <br>A general-purpose non-stable sort algorithm with an average time complexity of O(nlogn) and
@@ -10,17 +19,139 @@ import com.sl.algorithms.core.list.ListNode;
  * href="https://en.wikipedia.org/wiki/Tony_Hoare">Tony Hoare</a><br> <br><a
  * href="https://en.wikipedia.org/wiki/Quicksort">Reference 1</a> <br><a
  * href="https://brilliant.org/wiki/quick-sort/">Reference 2</a>
+ * <br><u>Primitives</u>:&nbsp;int[], long[] and double[] are sorted in-place without boxing,
+ * using a Hoare partition around the median-of-3, an {@link InsertionSort} cut-off for small
+ * partitions and recursion on the smaller side only i.e. O(logn) stack.<br>
+ * <br><u>Introsort</u>:&nbsp;with {@link QuickSortMode#INTROSPECTIVE}, the recursion depth is
+ * capped at 2*floor(log2(n)); a partition reaching that depth is handed over to
+ * {@link HeapSort}, so adversarial or heavily duplicated inputs cost O(nlogn) time and O(logn)
+ * stack, rather than O(n^2) time and O(n) stack.<br>
+ * <br><u>Fat pivot</u>:&nbsp;with {@link PartitionScheme#THREE_WAY}, objects are partitioned into
+ * [&lt; pivot | == pivot | &gt; pivot] and the keys equal to the pivot are left out of the
+ * recursion, so inputs with few distinct keys (status codes, enum ordinals) sort in linear
+ * time.<br>
  */
-public class QuickSort<T extends Comparable> implements SortingEngine<T>, QuickSelect<T> {
+public class QuickSort<T extends Comparable> implements SortingEngine<T>, QuickSelect<T>,
+    PrimitiveSortingEngine {
+
+  private static final int INSERTION_SORT_THRESHOLD = 16;
+
+  private final QuickSortMode mode;
+  private final PartitionScheme partitionScheme;
+  private final InsertionSort<T> insertionSort = new InsertionSort<>();
+  private final HeapSort<T> heapSort = new HeapSort<>(HeapType.MAX_HEAP);
+
+  public QuickSort() {
+    this(QuickSortMode.CLASSIC);
+  }
+
+  public QuickSort(QuickSortMode mode) {
+    this(mode, PartitionScheme.TWO_WAY);
+  }
+
+  public QuickSort(QuickSortMode mode, PartitionScheme partitionScheme) {
+    if (mode == null) {
+      throw new IllegalArgumentException("mode is null");
+    }
+    if (partitionScheme == null) {
+      throw new IllegalArgumentException("partitionScheme is null");
+    }
+    this.mode = mode;
+    this.partitionScheme = partitionScheme;
+  }
+
+  @Override
+  public PartitionScheme partitionScheme() {
+    return partitionScheme;
+  }
 
   @Override
   public void sort(T[] objects) {
+    sort(objects, naturalOrder());
+  }
+
+  @Override
+  public <E> void sort(E[] objects, Comparator<? super E> comparator) {
     checkArray(objects);
+    checkComparator(comparator);
     int n = objects.length;
     if (n == 1) {
       return;
     }
-    quickSort(objects, 0, n - 1);
+    sort(objects, 0, n - 1, comparator);
+  }
+
+  /**
+   * <br>Sort a given portion of the array; used by the bucket-based sorts, once the buckets are
+   * in place.<br>
+   *
+   * @param objects array to be sorted
+   * @param s start index (inclusive)
+   * @param e end index (inclusive)
+   * @param comparator order of the elements
+   */
+  public <E> void sort(E[] objects, int s, int e, Comparator<? super E> comparator) {
+    if (mode == QuickSortMode.INTROSPECTIVE) {
+      introSort(objects, s, e, depthLimit(e - s + 1), comparator);
+    } else {
+      quickSort(objects, s, e, comparator);
+    }
+  }
+
+  @Override
+  public void sort(int[] nums) {
+    checkArray(nums);
+    quickSort(nums, 0, nums.length - 1, depthLimit(nums.length));
+  }
+
+  @Override
+  public void sort(long[] nums) {
+    checkArray(nums);
+    quickSort(nums, 0, nums.length - 1, depthLimit(nums.length));
+  }
+
+  @Override
+  public void sort(double[] nums) {
+    checkArray(nums);
+    int n = moveNaNsToEnd(nums);
+    quickSort(nums, 0, n - 1, depthLimit(n));
+    orderSignedZeros(nums, n);
+  }
+
+  // 2*floor(log2(n)) for introsort, i.e. twice the depth of a perfectly balanced recursion
+  private int depthLimit(int n) {
+    if (mode != QuickSortMode.INTROSPECTIVE) {
+      return Integer.MAX_VALUE;
+    }
+    return 2 * (31 - Integer.numberOfLeadingZeros(Math.max(n, 1)));
+  }
+
+  /**
+   * <p>Quick-sort with a depth budget: heap-sort the partition once the budget runs out.</p>
+   *
+   * @param objects array to be sorted
+   * @param s start index (inclusive)
+   * @param e end index (inclusive)
+   * @param depth remaining recursion depth
+   * @param comparator order of the elements
+   */
+  private <E> void introSort(E[] objects, int s, int e, int depth,
+      Comparator<? super E> comparator) {
+    while (e - s >= INSERTION_SORT_THRESHOLD) {
+      if (depth-- == 0) {
+        heapSort.sort(objects, s, e, comparator);
+        return;
+      }
+      int[] equal = partitionObjects(objects, s, e, comparator);
+      if (equal[0] - s < e - equal[1]) { // recurse into the smaller side, iterate over the larger
+        introSort(objects, s, equal[0] - 1, depth, comparator);
+        s = equal[1] + 1;
+      } else {
+        introSort(objects, equal[1] + 1, e, depth, comparator);
+        e = equal[0] - 1;
+      }
+    }
+    insertionSort.sort(objects, s, e, comparator);
   }
 
   /**
@@ -29,14 +160,173 @@ public class QuickSort<T extends Comparable> implements SortingEngine<T>, QuickS
    * @param objects array to be sorted
    * @param s start index (inclusive)
    * @param e end index (inclusive)
+   * @param comparator order of the elements
    */
-  private void quickSort(T[] objects, int s, int e) {
+  private <E> void quickSort(E[] objects, int s, int e, Comparator<? super E> comparator) {
     if (s >= e) {
       return;
     }
-    int p = pivotSort(objects, s, e, medianOf3(objects, s, e));
-    quickSort(objects, s, p);
-    quickSort(objects, p + 1, e);
+    int[] equal = partitionObjects(objects, s, e, comparator);
+    quickSort(objects, s, equal[0] - 1, comparator);
+    quickSort(objects, equal[1] + 1, e, comparator);
+  }
+
+  private void quickSort(int[] nums, int s, int e, int depth) {
+    while (e - s >= INSERTION_SORT_THRESHOLD) {
+      if (depth-- == 0) {
+        heapSort.sort(nums, s, e);
+        return;
+      }
+      int p = partition(nums, s, e);
+      if (p - s < e - p) { // recurse into the smaller side, iterate over the larger one
+        quickSort(nums, s, p, depth);
+        s = p + 1;
+      } else {
+        quickSort(nums, p + 1, e, depth);
+        e = p;
+      }
+    }
+    insertionSort.sort(nums, s, e);
+  }
+
+  private void quickSort(long[] nums, int s, int e, int depth) {
+    while (e - s >= INSERTION_SORT_THRESHOLD) {
+      if (depth-- == 0) {
+        heapSort.sort(nums, s, e);
+        return;
+      }
+      int p = partition(nums, s, e);
+      if (p - s < e - p) { // recurse into the smaller side, iterate over the larger one
+        quickSort(nums, s, p, depth);
+        s = p + 1;
+      } else {
+        quickSort(nums, p + 1, e, depth);
+        e = p;
+      }
+    }
+    insertionSort.sort(nums, s, e);
+  }
+
+  private void quickSort(double[] nums, int s, int e, int depth) {
+    while (e - s >= INSERTION_SORT_THRESHOLD) {
+      if (depth-- == 0) {
+        heapSort.sort(nums, s, e);
+        return;
+      }
+      int p = partition(nums, s, e);
+      if (p - s < e - p) { // recurse into the smaller side, iterate over the larger one
+        quickSort(nums, s, p, depth);
+        s = p + 1;
+      } else {
+        quickSort(nums, p + 1, e, depth);
+        e = p;
+      }
+    }
+    insertionSort.sort(nums, s, e);
+  }
+
+  // bounds (inclusive) of the block that is in its final place: the pivot alone for two-way
+  private <E> int[] partitionObjects(E[] objects, int s, int e,
+      Comparator<? super E> comparator) {
+    int m = medianOf3(objects, s, e, comparator);
+    if (partitionScheme == PartitionScheme.THREE_WAY) {
+      return threeWayPartition(objects, s, e, m, comparator);
+    }
+    int p = pivotSort(objects, s, e, m, comparator);
+    return new int[]{p, p};
+  }
+
+  /**
+   * <br><a href="https://en.wikipedia.org/wiki/Quicksort#Hoare_partition_scheme">Hoare
+   * partition</a> around the median-of-3.<br>
+   *
+   * @param a input array
+   * @param s start index (inclusive)
+   * @param e end index (inclusive)
+   * @return p such that a[s..p] &lt;= a[p+1..e]
+   */
+  private int partition(int[] a, int s, int e) {
+    int m = midPoint(s, e);
+    if (a[m] < a[s]) {
+      swap(a, s, m);
+    }
+    if (a[e] < a[m]) {
+      swap(a, m, e);
+      if (a[m] < a[s]) {
+        swap(a, s, m);
+      }
+    }
+    int pivot = a[m];
+    int i = s - 1;
+    int j = e + 1;
+    while (true) {
+      do {
+        i++;
+      } while (a[i] < pivot);
+      do {
+        j--;
+      } while (a[j] > pivot);
+      if (i >= j) {
+        return j;
+      }
+      swap(a, i, j);
+    }
+  }
+
+  private int partition(long[] a, int s, int e) {
+    int m = midPoint(s, e);
+    if (a[m] < a[s]) {
+      swap(a, s, m);
+    }
+    if (a[e] < a[m]) {
+      swap(a, m, e);
+      if (a[m] < a[s]) {
+        swap(a, s, m);
+      }
+    }
+    long pivot = a[m];
+    int i = s - 1;
+    int j = e + 1;
+    while (true) {
+      do {
+        i++;
+      } while (a[i] < pivot);
+      do {
+        j--;
+      } while (a[j] > pivot);
+      if (i >= j) {
+        return j;
+      }
+      swap(a, i, j);
+    }
+  }
+
+  private int partition(double[] a, int s, int e) {
+    int m = midPoint(s, e);
+    if (a[m] < a[s]) {
+      swap(a, s, m);
+    }
+    if (a[e] < a[m]) {
+      swap(a, m, e);
+      if (a[m] < a[s]) {
+        swap(a, s, m);
+      }
+    }
+    double pivot = a[m];
+    int i = s - 1;
+    int j = e + 1;
+    while (true) {
+      do {
+        i++;
+      } while (a[i] < pivot);
+      do {
+        j--;
+      } while (a[j] > pivot);
+      if (i >= j) {
+        return j;
+      }
+      swap(a, i, j);
+    }
   }
 
   @Override
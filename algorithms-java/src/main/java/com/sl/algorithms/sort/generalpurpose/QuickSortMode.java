@@ -0,0 +1,16 @@
+package com.sl.algorithms.sort.generalpurpose;
+
+/**
+ * <br>Recursion strategy of {@link QuickSort}.<br>
+ */
+public enum QuickSortMode {
+  /**
+   * Plain quick-sort: O(nlogn) on average, O(n^2) worst-case.
+   */
+  CLASSIC,
+  /**
+   * <a href="https://en.wikipedia.org/wiki/Introsort">Introsort</a>: quick-sort with a recursion
+   * depth limit of 2*log2(n), past which the partition is heap-sorted, i.e. O(nlogn) worst-case.
+   */
+  INTROSPECTIVE;
+}
@@ -0,0 +1,253 @@
+package com.sl.algorithms.sort.generalpurpose;
+
+import com.sl.algorithms.core.interfaces.sort.SortingEngine;
+import com.sl.algorithms.core.list.ListNode;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+
+/**
+ * <br>Parallel sort that splits the input into many buckets in a single pass, rather than in two
+ * at every level as the {@link ParallelQuickSort} does.<br>
+ * <br><u>Steps</u>: <br>(1) draw {@link #OVERSAMPLING} random elements per bucket, sort them,
+ * and take every OVERSAMPLING-th one as a splitter. <br>(2) split the input into one chunk per
+ * thread; concurrently, classify the elements of every chunk into buckets, and count them into a
+ * histogram of the chunk. <br>(3) prefix sum over (bucket, chunk), then scatter every chunk into
+ * its slots of a scratch array, concurrently. <br>(4) copy every bucket back and sort it with the
+ * {@link QuickSort}, concurrently.<br>
+ * <br><u>Splitter tree</u>:&nbsp;the k-1 splitters are laid out as a complete binary search tree
+ * in breadth-first order, so an element reaches its bucket in exactly log2(k) comparisons, with
+ * the result of a comparison used as an index rather than a branch.<br>
+ * <br><u>Equal keys</u>:&nbsp;when the sample has duplicate splitters, every splitter also gets a
+ * bucket of its own, for the elements equal to it; such a bucket needs no sorting.<br>
+ * <br><u>Scaling</u>:&nbsp;every element is moved twice in all, and each phase is split across
+ * the threads up front, whereas a parallel quick-sort partitions sequentially at the top, and
+ * only gets p tasks after log2(p) levels.<br>
+ * <br><u>Complexity</u>: O(nlogn/p) average time on p cores; O(n) auxiliary space for the scratch
+ * and the bucket of every element. Non-stable.<br>
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Samplesort">Samplesort</a>
+ * @see <a href="https://arxiv.org/abs/1705.02257">In-place Parallel Super Scalar Samplesort</a>
+ */
+public class SampleSort<T extends Comparable> implements SortingEngine<T> {
+
+  /**
+   * Buckets smaller than this are not worth the overhead of a task.
+   */
+  public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 13;
+  static final int BUCKETS_PER_THREAD = 4;
+  static final int MAX_BUCKETS = 1 << 10;
+  static final int OVERSAMPLING = 32;
+
+  private final int parallelThreshold;
+  private final ForkJoinPool pool;
+  private final QuickSort<T> quickSort = new QuickSort<>(QuickSortMode.INTROSPECTIVE);
+
+  public SampleSort() {
+    this(DEFAULT_PARALLEL_THRESHOLD);
+  }
+
+  public SampleSort(int parallelThreshold) {
+    this(parallelThreshold, ForkJoinPool.commonPool());
+  }
+
+  public SampleSort(int parallelThreshold, ForkJoinPool pool) {
+    if (parallelThreshold < 2) {
+      throw new IllegalArgumentException("parallelThreshold must be at least 2");
+    }
+    if (pool == null) {
+      throw new IllegalArgumentException("pool is null");
+    }
+    this.parallelThreshold = parallelThreshold;
+    this.pool = pool;
+  }
+
+  @Override
+  public void sort(T[] objects) {
+    sort(objects, naturalOrder());
+  }
+
+  @Override
+  public <E> void sort(E[] objects, Comparator<? super E> comparator) {
+    checkArray(objects);
+    checkComparator(comparator);
+    int n = objects.length;
+    if (n == 1) {
+      return;
+    }
+    int k = bucketCount(n);
+    if (k < 2) {
+      quickSort.sort(objects, 0, n - 1, comparator);
+      return;
+    }
+    sampleSort(objects, k, comparator);
+  }
+
+  // a power of 2, with buckets of parallelThreshold elements at least
+  private int bucketCount(int n) {
+    int k = Math.min(MAX_BUCKETS, Integer.highestOneBit(pool.getParallelism()
+        * BUCKETS_PER_THREAD));
+    while (k > 1 && n / k < parallelThreshold) {
+      k >>>= 1;
+    }
+    return k;
+  }
+
+  private <E> void sampleSort(E[] objects, int k, Comparator<? super E> comparator) {
+    int n = objects.length;
+    E[] splitters = splitters(objects, k, comparator);
+    boolean equalityBuckets = false;
+    for (int i = 1; i < splitters.length; i++) {
+      equalityBuckets |= comparator.compare(splitters[i - 1], splitters[i]) == 0;
+    }
+    SplitterTree<E> tree = new SplitterTree<>(splitters, equalityBuckets, comparator);
+    int buckets = tree.bucketCount();
+    int chunks = Math.min(pool.getParallelism(), n / parallelThreshold);
+    int chunkSize = (n + chunks - 1) / chunks;
+    int[] bucketIds = new int[n];
+    int[][] counts = new int[chunks][buckets];
+    forEach(chunks, c -> { // (2)
+      int[] count = counts[c];
+      for (int i = c * chunkSize, e = Math.min(n, i + chunkSize); i < e; i++) {
+        int b = tree.bucketId(objects[i]);
+        bucketIds[i] = b;
+        count[b]++;
+      }
+    });
+    int[] offsets = new int[buckets + 1]; // (3)
+    int sum = 0;
+    for (int b = 0; b < buckets; b++) {
+      offsets[b] = sum;
+      for (int[] count : counts) {
+        int c = count[b];
+        count[b] = sum;
+        sum += c;
+      }
+    }
+    offsets[buckets] = n;
+    Object[] scratch = new Object[n];
+    forEach(chunks, c -> {
+      int[] next = counts[c];
+      for (int i = c * chunkSize, e = Math.min(n, i + chunkSize); i < e; i++) {
+        scratch[next[bucketIds[i]]++] = objects[i];
+      }
+    });
+    forEach(buckets, b -> { // (4)
+      int s = offsets[b];
+      int e = offsets[b + 1];
+      System.arraycopy(scratch, s, objects, s, e - s);
+      if (e - s > 1 && !tree.isEqualityBucket(b)) {
+        quickSort.sort(objects, s, e - 1, comparator);
+      }
+    });
+  }
+
+  private <E> E[] splitters(E[] objects, int k, Comparator<? super E> comparator) {
+    int n = objects.length;
+    int sampleSize = Math.min(n, k * OVERSAMPLING);
+    E[] sample = Arrays.copyOf(objects, sampleSize);
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    for (int i = 0; i < sampleSize; i++) {
+      sample[i] = objects[random.nextInt(n)];
+    }
+    quickSort.sort(sample, 0, sampleSize - 1, comparator);
+    E[] splitters = Arrays.copyOf(sample, k - 1);
+    for (int i = 1; i < k; i++) {
+      splitters[i - 1] = sample[i * sampleSize / k];
+    }
+    return splitters;
+  }
+
+  private void forEach(int tasks, IntConsumer body) {
+    pool.invoke(new ForEachTask(0, tasks, body));
+  }
+
+  @Override
+  public ListNode<T> sortList(ListNode<T> head) {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * <br>k-1 sorted splitters, as a complete binary search tree: root at 1, children of node i at
+   * 2i and 2i+1.<br>
+   * <br>Without equality buckets, bucket j holds the elements in (splitter[j-1], splitter[j]].
+   * With them, bucket 2j holds (splitter[j-1], splitter[j]) and bucket 2j+1 the elements equal to
+   * splitter[j].<br>
+   */
+  private static class SplitterTree<E> {
+
+    private final E[] tree;
+    private final E[] splitters;
+    private final int levels;
+    private final boolean equalityBuckets;
+    private final Comparator<? super E> comparator;
+
+    SplitterTree(E[] splitters, boolean equalityBuckets, Comparator<? super E> comparator) {
+      int k = splitters.length + 1;
+      this.tree = Arrays.copyOf(splitters, k);
+      this.splitters = splitters;
+      this.levels = Integer.numberOfTrailingZeros(k);
+      this.equalityBuckets = equalityBuckets;
+      this.comparator = comparator;
+      fill(1, 0, k - 1);
+    }
+
+    // in-order walk of the tree = the sorted order of the splitters [s, e)
+    private void fill(int node, int s, int e) {
+      if (s >= e) {
+        return;
+      }
+      int m = (s + e) >>> 1;
+      tree[node] = splitters[m];
+      fill(2 * node, s, m);
+      fill(2 * node + 1, m + 1, e);
+    }
+
+    int bucketCount() {
+      int k = splitters.length + 1;
+      return equalityBuckets ? 2 * k - 1 : k;
+    }
+
+    int bucketId(E x) {
+      int node = 1;
+      for (int l = 0; l < levels; l++) {
+        node = 2 * node + (comparator.compare(tree[node], x) < 0 ? 1 : 0);
+      }
+      int j = node - tree.length; // count of splitters < x
+      if (!equalityBuckets) {
+        return j;
+      }
+      return 2 * j + (j < splitters.length && comparator.compare(splitters[j], x) == 0 ? 1 : 0);
+    }
+
+    boolean isEqualityBucket(int b) {
+      return equalityBuckets && (b & 1) == 1;
+    }
+  }
+
+  private static class ForEachTask extends RecursiveAction {
+
+    private final int start;
+    private final int end;
+    private final IntConsumer body;
+
+    ForEachTask(int start, int end, IntConsumer body) {
+      this.start = start;
+      this.end = end;
+      this.body = body;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start == 1) {
+        body.accept(start);
+        return;
+      }
+      int m = (start + end) >>> 1;
+      invokeAll(new ForEachTask(start, m, body), new ForEachTask(m, end, body));
+    }
+  }
+}
@@ -1,17 +1,25 @@
 package com.sl.algorithms.sort.generalpurpose.heap;
 
+import static com.sl.algorithms.core.utils.ArrayOps.reverse;
 import static com.sl.algorithms.core.utils.ArrayOps.swap;
 
+import com.sl.algorithms.core.interfaces.sort.PrimitiveSortingEngine;
 import com.sl.algorithms.core.interfaces.sort.SortingEngine;
 import com.sl.algorithms.core.list.ListNode;
+import java.util.Comparator;
 
 /**
  * <p>An in-place non-stable sort algorithm with O(nlogn) time-complexity.</p> <br><a
  * href="https://brilliant.org/wiki/heap-sort/">Reference Reading 1</a> <br><a
  * href="https://www.hackerearth.com/practice/algorithms/sorting/heap-sort/tutorial/">Reference
  * Reading 3</a>
+ * <br><u>Primitives</u>:&nbsp;int[], long[] and double[] are sorted in-place without boxing,
+ * with an iterative sift-down i.e. O(1) space. {@link HeapType#MIN_HEAP} yields the reverse
+ * (descending) order, same as for objects.<br>
+ * <br><u>Sub-array</u>:&nbsp;the heap can be laid over a portion [s..e] of the array, which is how
+ * the introspective quick-sort falls back to heap-sort for a single partition.<br>
  */
-public class HeapSort<T extends Comparable> implements SortingEngine<T> {
+public class HeapSort<T extends Comparable> implements SortingEngine<T>, PrimitiveSortingEngine {
 
   private HeapType heapType;
 
@@ -21,75 +29,220 @@ public class HeapSort<T extends Comparable> implements SortingEngine<T> {
 
   @Override
   public void sort(T[] objects) {
+    sort(objects, naturalOrder());
+  }
+
+  @Override
+  public <E> void sort(E[] objects, Comparator<? super E> comparator) {
     checkArray(objects);
+    checkComparator(comparator);
     int n = objects.length;
     if (n == 1) {
       return;
     }
-    heapSort(objects, n);
+    heapSort(objects, 0, n, comparator);
+  }
+
+  /**
+   * @param objects array to be sorted
+   * @param s start index (inclusive)
+   * @param e end index (inclusive)
+   */
+  public void sort(T[] objects, int s, int e) {
+    heapSort(objects, s, e - s + 1, naturalOrder());
+  }
+
+  public <E> void sort(E[] objects, int s, int e, Comparator<? super E> comparator) {
+    heapSort(objects, s, e - s + 1, comparator);
+  }
+
+  @Override
+  public void sort(int[] nums) {
+    checkArray(nums);
+    sort(nums, 0, nums.length - 1);
+  }
+
+  public void sort(int[] nums, int s, int e) {
+    heapSort(nums, s, e - s + 1);
+    if (heapType == HeapType.MIN_HEAP) {
+      reverse(nums, s, e);
+    }
+  }
+
+  @Override
+  public void sort(long[] nums) {
+    checkArray(nums);
+    sort(nums, 0, nums.length - 1);
+  }
+
+  public void sort(long[] nums, int s, int e) {
+    heapSort(nums, s, e - s + 1);
+    if (heapType == HeapType.MIN_HEAP) {
+      reverse(nums, s, e);
+    }
+  }
+
+  @Override
+  public void sort(double[] nums) {
+    checkArray(nums);
+    int n = moveNaNsToEnd(nums);
+    heapSort(nums, 0, n);
+    orderSignedZeros(nums, n);
+    if (heapType == HeapType.MIN_HEAP) {
+      reverse(nums, 0, nums.length - 1);
+    }
   }
 
-  private void heapSort(T[] objects, int n) {
-    buildHeap(objects, n);
+  public void sort(double[] nums, int s, int e) {
+    heapSort(nums, s, e - s + 1);
+    if (heapType == HeapType.MIN_HEAP) {
+      reverse(nums, s, e);
+    }
+  }
+
+  // the heap of size n is laid over objects[s..s+n), hence node i lives at objects[s+i]
+  private <E> void heapSort(E[] objects, int s, int n, Comparator<? super E> comparator) {
+    buildHeap(objects, s, n, comparator);
     for (int i = n - 1; i > -1; i--) {
-      swap(objects, 0, i);
+      swap(objects, s, s + i);
       n--;
-      heapify(objects, n, 0);
+      heapify(objects, s, n, 0, comparator);
+    }
+  }
+
+  // ascending, using a max-heap
+  private void heapSort(int[] nums, int s, int n) {
+    for (int i = n / 2 - 1; i > -1; i--) {
+      siftDown(nums, s, n, i);
+    }
+    for (int i = n - 1; i > 0; i--) {
+      swap(nums, s, s + i);
+      siftDown(nums, s, i, 0);
+    }
+  }
+
+  private void heapSort(long[] nums, int s, int n) {
+    for (int i = n / 2 - 1; i > -1; i--) {
+      siftDown(nums, s, n, i);
+    }
+    for (int i = n - 1; i > 0; i--) {
+      swap(nums, s, s + i);
+      siftDown(nums, s, i, 0);
+    }
+  }
+
+  private void heapSort(double[] nums, int s, int n) {
+    for (int i = n / 2 - 1; i > -1; i--) {
+      siftDown(nums, s, n, i);
+    }
+    for (int i = n - 1; i > 0; i--) {
+      swap(nums, s, s + i);
+      siftDown(nums, s, i, 0);
     }
   }
 
-  private void buildHeap(T[] objects, int n) {
+  private <E> void buildHeap(E[] objects, int s, int n, Comparator<? super E> comparator) {
     for (int i = n / 2; i > -1; i--) {
-      heapify(objects, n, i);
+      heapify(objects, s, n, i, comparator);
     }
   }
 
   // logN
-  private void heapify(T[] objects, int n, int i) {
+  private <E> void heapify(E[] objects, int s, int n, int i, Comparator<? super E> comparator) {
     switch (heapType) {
       case MAX_HEAP: {
-        max_heapify(objects, n, i);
+        max_heapify(objects, s, n, i, comparator);
         break;
       }
       case MIN_HEAP: {
-        min_heapify(objects, n, i);
+        min_heapify(objects, s, n, i, comparator);
         break;
       }
     }
   }
 
-  @SuppressWarnings("unchecked")
-  private void max_heapify(T[] a, int n, int i) {
+  private <E> void max_heapify(E[] a, int s, int n, int i, Comparator<? super E> comparator) {
     int max = i;
     int left = 2 * i + 1;
     int right = 2 * i + 2;
-    if (left < n && a[left].compareTo(a[max]) > 0) {
+    if (left < n && comparator.compare(a[s + left], a[s + max]) > 0) {
       max = left;
     }
-    if (right < n && a[right].compareTo(a[max]) > 0) {
+    if (right < n && comparator.compare(a[s + right], a[s + max]) > 0) {
       max = right;
     }
     if (max != i) { // 1 or 2 of the above 2 checks were true
-      swap(a, i, max);
-      max_heapify(a, n, max);
+      swap(a, s + i, s + max);
+      max_heapify(a, s, n, max, comparator);
     }
   }
 
-  @SuppressWarnings("unchecked")
-  private void min_heapify(T[] a, int n, int i) {
+  private <E> void min_heapify(E[] a, int s, int n, int i, Comparator<? super E> comparator) {
     int min = i;
     int left = 2 * i + 1;
     int right = 2 * i + 2;
-    if (left < n && a[left].compareTo(a[min]) < 0) {
+    if (left < n && comparator.compare(a[s + left], a[s + min]) < 0) {
       min = left;
     }
-    if (right < n && a[right].compareTo(a[min]) < 0) {
+    if (right < n && comparator.compare(a[s + right], a[s + min]) < 0) {
       min = right;
     }
     if (min != i) {
-      swap(a, min, i);
-      min_heapify(a, n, min);
+      swap(a, s + min, s + i);
+      min_heapify(a, s, n, min, comparator);
+    }
+  }
+
+  // logN, iterative: the hole moves down and the root value is written once, at the end
+  private void siftDown(int[] a, int s, int n, int i) {
+    int root = a[s + i];
+    int child = 2 * i + 1;
+    while (child < n) {
+      if (child + 1 < n && a[s + child + 1] > a[s + child]) {
+        child++;
+      }
+      if (a[s + child] <= root) {
+        break;
+      }
+      a[s + i] = a[s + child];
+      i = child;
+      child = 2 * i + 1;
+    }
+    a[s + i] = root;
+  }
+
+  private void siftDown(long[] a, int s, int n, int i) {
+    long root = a[s + i];
+    int child = 2 * i + 1;
+    while (child < n) {
+      if (child + 1 < n && a[s + child + 1] > a[s + child]) {
+        child++;
+      }
+      if (a[s + child] <= root) {
+        break;
+      }
+      a[s + i] = a[s + child];
+      i = child;
+      child = 2 * i + 1;
+    }
+    a[s + i] = root;
+  }
+
+  private void siftDown(double[] a, int s, int n, int i) {
+    double root = a[s + i];
+    int child = 2 * i + 1;
+    while (child < n) {
+      if (child + 1 < n && a[s + child + 1] > a[s + child]) {
+        child++;
+      }
+      if (a[s + child] <= root) {
+        break;
+      }
+      a[s + i] = a[s + child];
+      i = child;
+      child = 2 * i + 1;
     }
+    a[s + i] = root;
   }
 
   @Override
@@ -3,11 +3,14 @@ package com.sl.algorithms.sort.generalpurpose.merge;
 import com.sl.algorithms.core.interfaces.merge.MergeEngine;
 import com.sl.algorithms.core.list.ListNode;
 import com.sl.algorithms.core.list.merge.LinkedListMergeIterative;
+import java.util.Comparator;
 
 /**
  * <p>BottomUpMergeSort treats the input array as a cluster of sub-lists and iteratively merges
  * them
  * back and forth b/n 2 buffers to produce a sorted list.</p>
+ * <p><u>Buffers</u>: with a {@link SortWorkspace}, the aux buffer is borrowed from it rather than
+ * allocated on every sort.</p>
  *
  * @see MergeSort
  */
@@ -16,29 +19,91 @@ public class BottomUpMergeSort<T extends Comparable> extends MergeSort<T> {
 
   private static final MergeEngine mergeEngine = new LinkedListMergeIterative();
 
+  private final SortWorkspace workspace;
+
+  public BottomUpMergeSort() {
+    workspace = null;
+  }
+
+  public BottomUpMergeSort(SortWorkspace workspace) {
+    if (workspace == null) {
+      throw new IllegalArgumentException("workspace is null");
+    }
+    this.workspace = workspace;
+  }
+
   /**
    * <br><u>Steps</u>: <br>(0) if list is of size=1, return as is (i.e. base case). <br>(1) pick
    * sub-lists of size 1 and build bottom-up with width increasing in multiples of 2. <br>(2) sort
    * adjacent units as a pair (conquer). <br>(3) iterate till entire width is sorted.<br>
-   * <br><u>Note</u>: The copy-back step is explicitly required in each iteration to incrementally
-   * sort the input array.<br>
+   * <br><u>Note</u>: The copy-back step is avoided by alternating the direction of merge, during
+   * each iteration; the output is copied back once at most, when the number of passes is odd.<br>
    */
   @Override
   public void sort(T[] objects) {
+    sort(objects, naturalOrder());
+  }
+
+  @Override
+  public <E> void sort(E[] objects, Comparator<? super E> comparator) {
+    checkArray(objects);
+    checkComparator(comparator);
+    int n = objects.length;
+    if (n == 1) {
+      return;
+    }
+    if (workspace == null) {
+      bottomUpMerge(objects, (E[]) new Object[n], comparator);
+      return;
+    }
+    try {
+      bottomUpMerge(objects, workspace.objects(n), comparator);
+    } finally {
+      workspace.release(n);
+    }
+  }
+
+  /**
+   * <br>Same as {@link #sort(Comparable[])}, with a caller-supplied scratch buffer, so that
+   * repeated sorts do not allocate. The scratch is left holding references to the sorted
+   * elements.<br>
+   *
+   * @param objects array to be sorted
+   * @param scratch auxiliary array, at least as long as objects
+   */
+  public void sort(T[] objects, T[] scratch) {
+    sort(objects, scratch, naturalOrder());
+  }
+
+  public <E> void sort(E[] objects, E[] scratch, Comparator<? super E> comparator) {
     checkArray(objects);
+    checkComparator(comparator);
     int n = objects.length;
+    if (scratch == null || scratch.length < n) {
+      throw new IllegalArgumentException("scratch is smaller than the input array");
+    }
     if (n == 1) {
       return;
     }
-    T[] aux = (T[]) new Comparable[n];
-    System.arraycopy(objects, 0, aux, 0, n);
+    bottomUpMerge(objects, scratch, comparator);
+  }
+
+  private <E> void bottomUpMerge(E[] objects, E[] scratch, Comparator<? super E> comparator) {
+    int n = objects.length;
+    E[] source = objects;
+    E[] target = scratch;
     for (int w = 1; w < n; w <<= 1) {
       for (int i = 0; i < n; i += w << 1) {
         int m = Math.min(n, i + w);
         int e = Math.min(n, i + (w << 1));
-        merge(objects, i, m, e, aux);
+        merge(source, i, m, e, target, comparator);
       }
-      System.arraycopy(aux, 0, objects, 0, n);
+      E[] merged = target;
+      target = source;
+      source = merged;
+    }
+    if (source != objects) {
+      System.arraycopy(source, 0, objects, 0, n);
     }
   }
 
@@ -1,6 +1,7 @@
 package com.sl.algorithms.sort.generalpurpose.merge;
 
 import com.sl.algorithms.core.interfaces.sort.SortingEngine;
+import java.util.Comparator;
 
 /**
  * <br>A general-purpose stable sort algorithm with a guaranteed time complexity of O(nlogn) and
@@ -24,9 +25,19 @@ public abstract class MergeSort<T extends Comparable> implements SortingEngine<T
    * @param target auxiliary array to help in the sort process
    */
   public void merge(T[] source, int s, int m, int e, T[] target) {
+    merge(source, s, m, e, target, naturalOrder());
+  }
+
+  /**
+   * <br>Same as {@link #merge(Comparable[], int, int, int, Comparable[])}, ordered by the given
+   * comparator; on a tie, the element from the left part goes first, which keeps the sort
+   * stable.<br>
+   */
+  public <E> void merge(E[] source, int s, int m, int e, E[] target,
+      Comparator<? super E> comparator) {
     int i = s, j = m;
     for (int k = s; k < e; k++) {
-      if (i < m && (j >= e || source[i].compareTo(source[j]) <= 0)) {
+      if (i < m && (j >= e || comparator.compare(source[i], source[j]) <= 0)) {
         target[k] = source[i];
         i++;
       } else {
@@ -35,4 +46,40 @@ public abstract class MergeSort<T extends Comparable> implements SortingEngine<T
       }
     }
   }
+
+  public void merge(int[] source, int s, int m, int e, int[] target) {
+    int i = s;
+    int j = m;
+    for (int k = s; k < e; k++) {
+      if (i < m && (j >= e || source[i] <= source[j])) {
+        target[k] = source[i++];
+      } else {
+        target[k] = source[j++];
+      }
+    }
+  }
+
+  public void merge(long[] source, int s, int m, int e, long[] target) {
+    int i = s;
+    int j = m;
+    for (int k = s; k < e; k++) {
+      if (i < m && (j >= e || source[i] <= source[j])) {
+        target[k] = source[i++];
+      } else {
+        target[k] = source[j++];
+      }
+    }
+  }
+
+  public void merge(double[] source, int s, int m, int e, double[] target) {
+    int i = s;
+    int j = m;
+    for (int k = s; k < e; k++) {
+      if (i < m && (j >= e || source[i] <= source[j])) {
+        target[k] = source[i++];
+      } else {
+        target[k] = source[j++];
+      }
+    }
+  }
 }
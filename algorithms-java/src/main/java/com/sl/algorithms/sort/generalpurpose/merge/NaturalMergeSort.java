@@ -0,0 +1,389 @@
+package com.sl.algorithms.sort.generalpurpose.merge;
+
+import static com.sl.algorithms.core.utils.ArrayOps.reverse;
+
+import com.sl.algorithms.core.interfaces.merge.MergeEngine;
+import com.sl.algorithms.core.list.ListNode;
+import com.sl.algorithms.core.list.merge.LinkedListMergeIterative;
+import java.util.Comparator;
+
+/**
+ * <p>NaturalMergeSort is an adaptive, stable merge sort on the lines of TimSort: it merges the
+ * runs that already exist in the input, instead of starting from sub-lists of size 1.</p>
+ * <br><u>Steps</u>: <br>(1) scan for the next run, ascending or strictly descending; a descending
+ * run is reversed in place (strictness keeps the sort stable). <br>(2) extend a run shorter than
+ * 'minRun' with binary insertion sort. <br>(3) push the run on a stack and merge the top runs while
+ * their lengths break the invariants len[i-2] &gt; len[i-1] + len[i] and len[i-1] &gt; len[i], so
+ * that merges stay balanced. <br>(4) merge the leftover runs.<br>
+ * <br><u>Galloping</u>: before a merge, the head of the 2nd run and the tail of the 1st run are
+ * located with an exponential search, so the elements already in place are not touched. During a
+ * merge, once one run wins {@link #MIN_GALLOP} times in a row, its winning streak is found with an
+ * exponential search and moved in bulk.<br>
+ * <br><u>Complexity</u>: O(n) time for input that is already sorted (or reversed), O(nlogn)
+ * otherwise; O(n/2) auxiliary space, which can be borrowed from a {@link SortWorkspace}.<br>
+ * <br><u>Lists</u>: the ascending runs of the list are cut off and merged pairwise, in the order
+ * of a binary counter, as in {@link BottomUpMergeSort#sortList(ListNode)}.<br>
+ *
+ * @see <a href="https://github.com/python/cpython/blob/main/Objects/listsort.txt">listsort.txt</a>
+ * @see MergeSort
+ */
+@SuppressWarnings("unchecked")
+public class NaturalMergeSort<T extends Comparable> extends MergeSort<T> {
+
+  /**
+   * Arrays shorter than this are binary-insertion sorted, with no merge at all.
+   */
+  private static final int MIN_MERGE = 32;
+  /**
+   * Consecutive wins of one run, after which the merge switches to galloping.
+   */
+  private static final int MIN_GALLOP = 7;
+  /**
+   * With the merge invariants, run lengths grow at least as fast as the Fibonacci numbers.
+   */
+  private static final int MAX_RUNS = 64;
+
+  private static final MergeEngine mergeEngine = new LinkedListMergeIterative();
+
+  private final SortWorkspace workspace;
+
+  public NaturalMergeSort() {
+    workspace = null;
+  }
+
+  public NaturalMergeSort(SortWorkspace workspace) {
+    if (workspace == null) {
+      throw new IllegalArgumentException("workspace is null");
+    }
+    this.workspace = workspace;
+  }
+
+  @Override
+  public void sort(T[] objects) {
+    sort(objects, naturalOrder());
+  }
+
+  @Override
+  public <E> void sort(E[] objects, Comparator<? super E> comparator) {
+    checkArray(objects);
+    checkComparator(comparator);
+    int n = objects.length;
+    if (n == 1) {
+      return;
+    }
+    if (n < MIN_MERGE) {
+      binaryInsertionSort(objects, 0, n, countRunAndMakeAscending(objects, 0, n, comparator),
+          comparator);
+      return;
+    }
+    int tmpLength = n / 2 + 1; // the smaller run gets copied
+    Runs<E> runs = new Runs<>(objects,
+        workspace == null ? (E[]) new Object[tmpLength] : workspace.objects(tmpLength),
+        comparator);
+    try {
+      int minRun = minRunLength(n);
+      for (int lo = 0; lo < n; ) {
+        int runLen = countRunAndMakeAscending(objects, lo, n, comparator);
+        if (runLen < minRun) {
+          int force = Math.min(n - lo, minRun);
+          binaryInsertionSort(objects, lo, lo + force, lo + runLen, comparator);
+          runLen = force;
+        }
+        runs.push(lo, runLen);
+        runs.mergeCollapse();
+        lo += runLen;
+      }
+      runs.mergeForceCollapse();
+    } finally {
+      if (workspace != null) {
+        workspace.release(tmpLength);
+      }
+    }
+  }
+
+  // k in [MIN_MERGE/2, MIN_MERGE], such that n/k is a power of 2 or close to, but below one
+  private int minRunLength(int n) {
+    int r = 0;
+    while (n >= MIN_MERGE) {
+      r |= (n & 1);
+      n >>= 1;
+    }
+    return n + r;
+  }
+
+  /**
+   * @return length of the run starting at lo, which is ascending on return
+   */
+  private <E> int countRunAndMakeAscending(E[] a, int lo, int hi,
+      Comparator<? super E> comparator) {
+    int runHi = lo + 1;
+    if (runHi == hi) {
+      return 1;
+    }
+    if (comparator.compare(a[runHi++], a[lo]) < 0) {
+      while (runHi < hi && comparator.compare(a[runHi], a[runHi - 1]) < 0) {
+        runHi++;
+      }
+      reverse(a, lo, runHi - 1);
+    } else {
+      while (runHi < hi && comparator.compare(a[runHi], a[runHi - 1]) >= 0) {
+        runHi++;
+      }
+    }
+    return runHi - lo;
+  }
+
+  /**
+   * <p>Sort a[lo..hi), of which a[lo..start) is already sorted.</p>
+   */
+  private <E> void binaryInsertionSort(E[] a, int lo, int hi, int start,
+      Comparator<? super E> comparator) {
+    for (int i = start; i < hi; i++) {
+      E pivot = a[i];
+      // after any equal element, to stay stable
+      int at = gallopRight(pivot, a, lo, i - lo, comparator);
+      System.arraycopy(a, at, a, at + 1, i - at);
+      a[at] = pivot;
+    }
+  }
+
+  /**
+   * @return first index in a[base..base+len) with a[i] &gt;= key
+   */
+  private static <E> int gallopLeft(E key, E[] a, int base, int len,
+      Comparator<? super E> comparator) {
+    int lo = 0;
+    int hi = 1;
+    while (hi < len && comparator.compare(a[base + hi - 1], key) < 0) { // exponential search
+      lo = hi;
+      hi = (hi << 1) + 1;
+      if (hi <= 0) { // overflow
+        hi = len;
+      }
+    }
+    hi = Math.min(hi, len);
+    while (lo < hi) { // binary search
+      int m = (lo + hi) >>> 1;
+      if (comparator.compare(a[base + m], key) < 0) {
+        lo = m + 1;
+      } else {
+        hi = m;
+      }
+    }
+    return base + lo;
+  }
+
+  /**
+   * @return first index in a[base..base+len) with a[i] &gt; key
+   */
+  private static <E> int gallopRight(E key, E[] a, int base, int len,
+      Comparator<? super E> comparator) {
+    int lo = 0;
+    int hi = 1;
+    while (hi < len && comparator.compare(a[base + hi - 1], key) <= 0) { // exponential search
+      lo = hi;
+      hi = (hi << 1) + 1;
+      if (hi <= 0) { // overflow
+        hi = len;
+      }
+    }
+    hi = Math.min(hi, len);
+    while (lo < hi) { // binary search
+      int m = (lo + hi) >>> 1;
+      if (comparator.compare(a[base + m], key) <= 0) {
+        lo = m + 1;
+      } else {
+        hi = m;
+      }
+    }
+    return base + lo;
+  }
+
+  @Override
+  public ListNode<T> sortList(ListNode<T> head) {
+    checkList(head);
+    if (head.next == null) {
+      return head;
+    }
+    ListNode<T>[] pending = new ListNode[MAX_RUNS]; // pending[i] spans ~2^i runs
+    ListNode<T> node = head;
+    while (node != null) {
+      ListNode<T> run = node;
+      ListNode<T> tail = node;
+      while (tail.next != null && tail.next.compareTo(tail) >= 0) {
+        tail = tail.next;
+      }
+      node = tail.next;
+      tail.next = null;
+      int i = 0;
+      for (; pending[i] != null; i++) { // the earlier run goes first, to stay stable
+        run = mergeEngine.merge2SortedLists(pending[i], run);
+        pending[i] = null;
+      }
+      pending[i] = run;
+    }
+    ListNode<T> result = null;
+    for (ListNode<T> run : pending) {
+      if (run != null) {
+        result = mergeEngine.merge2SortedLists(run, result);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * <br>Stack of the pending runs, plus the merge buffer, for a single sort call.<br>
+   */
+  private static class Runs<E> {
+
+    private final E[] objects;
+    private final E[] tmp;
+    private final Comparator<? super E> comparator;
+    private final int[] runBase = new int[MAX_RUNS];
+    private final int[] runLen = new int[MAX_RUNS];
+    private int size = 0;
+
+    Runs(E[] objects, E[] tmp, Comparator<? super E> comparator) {
+      this.objects = objects;
+      this.tmp = tmp;
+      this.comparator = comparator;
+    }
+
+    void push(int base, int len) {
+      runBase[size] = base;
+      runLen[size] = len;
+      size++;
+    }
+
+    /**
+     * <br>Restore the invariants on the top 4 runs (checking 3 is not enough, see de Gouw et al.,
+     * 'OpenJDK's java.utils.Collection.sort() is broken', 2015).<br>
+     */
+    void mergeCollapse() {
+      while (size > 1) {
+        int n = size - 2;
+        if ((n > 0 && runLen[n - 1] <= runLen[n] + runLen[n + 1])
+            || (n > 1 && runLen[n - 2] <= runLen[n - 1] + runLen[n])) {
+          if (runLen[n - 1] < runLen[n + 1]) {
+            n--;
+          }
+        } else if (runLen[n] > runLen[n + 1]) {
+          break;
+        }
+        mergeAt(n);
+      }
+    }
+
+    void mergeForceCollapse() {
+      while (size > 1) {
+        int n = size - 2;
+        if (n > 0 && runLen[n - 1] < runLen[n + 1]) {
+          n--;
+        }
+        mergeAt(n);
+      }
+    }
+
+    // merge the runs i and i+1
+    private void mergeAt(int i) {
+      int base1 = runBase[i];
+      int len1 = runLen[i];
+      int base2 = runBase[i + 1];
+      int len2 = runLen[i + 1];
+      runLen[i] = len1 + len2;
+      if (i == size - 3) {
+        runBase[i + 1] = runBase[i + 2];
+        runLen[i + 1] = runLen[i + 2];
+      }
+      size--;
+
+      // elements of run1 up to the head of run2, and of run2 from the tail of run1, are in place
+      int k = gallopRight(objects[base2], objects, base1, len1, comparator);
+      len1 -= k - base1;
+      base1 = k;
+      if (len1 == 0) {
+        return;
+      }
+      len2 = gallopLeft(objects[base1 + len1 - 1], objects, base2, len2, comparator) - base2;
+      if (len2 == 0) {
+        return;
+      }
+      if (len1 <= len2) {
+        mergeLo(base1, len1, base2, len2);
+      } else {
+        mergeHi(base1, len1, base2, len2);
+      }
+    }
+
+    // run1 goes to tmp, merge forwards
+    private void mergeLo(int base1, int len1, int base2, int len2) {
+      System.arraycopy(objects, base1, tmp, 0, len1);
+      int i = 0;
+      int j = base2;
+      int end2 = base2 + len2;
+      int dest = base1;
+      int wins1 = 0;
+      int wins2 = 0;
+      while (i < len1 && j < end2) {
+        if (comparator.compare(objects[j], tmp[i]) < 0) {
+          objects[dest++] = objects[j++];
+          wins1 = 0;
+          if (++wins2 >= MIN_GALLOP) { // move all of run2 that is < tmp[i]
+            int count = gallopLeft(tmp[i], objects, j, end2 - j, comparator) - j;
+            System.arraycopy(objects, j, objects, dest, count);
+            dest += count;
+            j += count;
+            wins2 = 0;
+          }
+        } else {
+          objects[dest++] = tmp[i++];
+          wins2 = 0;
+          if (++wins1 >= MIN_GALLOP && i < len1) { // move all of run1 that is <= objects[j]
+            int count = gallopRight(objects[j], tmp, i, len1 - i, comparator) - i;
+            System.arraycopy(tmp, i, objects, dest, count);
+            dest += count;
+            i += count;
+            wins1 = 0;
+          }
+        }
+      }
+      System.arraycopy(tmp, i, objects, dest, len1 - i); // what is left of run2 is in place already
+    }
+
+    // run2 goes to tmp, merge backwards
+    private void mergeHi(int base1, int len1, int base2, int len2) {
+      System.arraycopy(objects, base2, tmp, 0, len2);
+      int i = len2 - 1;
+      int j = base1 + len1 - 1;
+      int dest = base2 + len2 - 1;
+      int wins1 = 0;
+      int wins2 = 0;
+      while (i >= 0 && j >= base1) {
+        if (comparator.compare(tmp[i], objects[j]) < 0) {
+          objects[dest--] = objects[j--];
+          wins2 = 0;
+          if (++wins1 >= MIN_GALLOP && j >= base1) { // move all of run1 that is > tmp[i]
+            int from = gallopRight(tmp[i], objects, base1, j - base1 + 1, comparator);
+            int count = j + 1 - from;
+            System.arraycopy(objects, from, objects, dest - count + 1, count);
+            dest -= count;
+            j -= count;
+            wins1 = 0;
+          }
+        } else {
+          objects[dest--] = tmp[i--];
+          wins1 = 0;
+          if (++wins2 >= MIN_GALLOP && i >= 0) { // move all of run2 that is >= objects[j]
+            int from = gallopLeft(objects[j], tmp, 0, i + 1, comparator);
+            int count = i + 1 - from;
+            System.arraycopy(tmp, from, objects, dest - count + 1, count);
+            dest -= count;
+            i -= count;
+            wins2 = 0;
+          }
+        }
+      }
+      System.arraycopy(tmp, 0, objects, base1, i + 1); // what is left of run1 is in place already
+    }
+  }
+}
@@ -0,0 +1,191 @@
+package com.sl.algorithms.sort.generalpurpose.merge;
+
+import static com.sl.algorithms.core.utils.Formulas.midPoint;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>Fork/Join flavour of {@link TopDownMergeSort}, which keeps the merge sort stable.</p>
+ * <br><u>Steps</u>: <br>(1) sort the two halves concurrently, with the same source/target
+ * ping-pong as {@link TopDownMergeSort}. <br>(2) merge the halves in parallel as well: pick the
+ * middle element of the larger run and binary-search its rank in the other run (co-rank); the two
+ * 'lower' and the two 'upper' parts can then be merged independently, into disjoint ranges of the
+ * target. <br>(3) below the parallel threshold, sort/merge sequentially.<br>
+ * <br><u>Stability</u>: when the split element comes from the left run, equal elements of the
+ * right run go to the upper part; when it comes from the right run, equal elements of the left
+ * run go to the lower part. Either way, equal elements keep their left-before-right order.<br>
+ * <br><u>Primitives</u>:&nbsp;only object arrays are sorted in parallel; int[], long[] and
+ * double[] are sorted by the inherited {@link TopDownMergeSort} paths, sequentially, on the
+ * calling thread. Stability is moot for primitives, so {@link java.util.Arrays#parallelSort(int[])}
+ * is the better fit for a large primitive array.<br>
+ * <br><u>Complexity</u>: O(nlogn/p) time on p cores for objects, O(n) space.<br>
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Merge_sort#Parallel_merge_sort">Parallel merge
+ * sort</a>
+ */
+@SuppressWarnings("unchecked")
+public class ParallelMergeSort<T extends Comparable> extends TopDownMergeSort<T> {
+
+  /**
+   * Sub-arrays smaller than this are not worth the overhead of a task.
+   */
+  public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 13;
+
+  private final int parallelThreshold;
+  private final ForkJoinPool pool;
+
+  public ParallelMergeSort() {
+    this(DEFAULT_PARALLEL_THRESHOLD);
+  }
+
+  public ParallelMergeSort(int parallelThreshold) {
+    this(parallelThreshold, ForkJoinPool.commonPool());
+  }
+
+  public ParallelMergeSort(int parallelThreshold, ForkJoinPool pool) {
+    if (parallelThreshold < 2) {
+      throw new IllegalArgumentException("parallelThreshold must be at least 2");
+    }
+    if (pool == null) {
+      throw new IllegalArgumentException("pool is null");
+    }
+    this.parallelThreshold = parallelThreshold;
+    this.pool = pool;
+  }
+
+  @Override
+  public void sort(T[] objects) {
+    sort(objects, naturalOrder());
+  }
+
+  @Override
+  public <E> void sort(E[] objects, Comparator<? super E> comparator) {
+    checkArray(objects);
+    checkComparator(comparator);
+    int n = objects.length;
+    if (n == 1) {
+      return;
+    }
+    E[] aux = (E[]) new Object[n];
+    System.arraycopy(objects, 0, aux, 0, n);
+    pool.invoke(new SortTask<>(aux, 0, n, objects, comparator));
+  }
+
+  /**
+   * <u>Objective</u>: MERGE 2 sorted runs of the source, source[s1..e1) and source[s2..e2), into
+   * the target starting at index t.
+   */
+  private <E> void merge(E[] source, int s1, int e1, int s2, int e2, E[] target, int t,
+      Comparator<? super E> comparator) {
+    while (s1 < e1 && s2 < e2) {
+      if (comparator.compare(source[s1], source[s2]) <= 0) {
+        target[t++] = source[s1++];
+      } else {
+        target[t++] = source[s2++];
+      }
+    }
+    System.arraycopy(source, s1, target, t, e1 - s1);
+    System.arraycopy(source, s2, target, t + (e1 - s1), e2 - s2);
+  }
+
+  // first index in a[s..e) with a[i] >= key
+  private <E> int lowerBound(E[] a, int s, int e, E key, Comparator<? super E> comparator) {
+    while (s < e) {
+      int m = midPoint(s, e);
+      if (comparator.compare(a[m], key) < 0) {
+        s = m + 1;
+      } else {
+        e = m;
+      }
+    }
+    return s;
+  }
+
+  // first index in a[s..e) with a[i] > key
+  private <E> int upperBound(E[] a, int s, int e, E key, Comparator<? super E> comparator) {
+    while (s < e) {
+      int m = midPoint(s, e);
+      if (comparator.compare(a[m], key) <= 0) {
+        s = m + 1;
+      } else {
+        e = m;
+      }
+    }
+    return s;
+  }
+
+  private class SortTask<E> extends RecursiveAction {
+
+    private final E[] source;
+    private final int start;
+    private final int end;
+    private final E[] target;
+    private final Comparator<? super E> comparator;
+
+    SortTask(E[] source, int start, int end, E[] target, Comparator<? super E> comparator) {
+      this.source = source;
+      this.start = start;
+      this.end = end;
+      this.target = target;
+      this.comparator = comparator;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start <= parallelThreshold) {
+        topDownMerge(source, start, end, target, comparator);
+        return;
+      }
+      int m = midPoint(start, end);
+      invokeAll(new SortTask<>(target, start, m, source, comparator),
+          new SortTask<>(target, m, end, source, comparator));
+      new MergeTask<>(source, start, m, m, end, target, start, comparator).compute();
+    }
+  }
+
+  private class MergeTask<E> extends RecursiveAction {
+
+    private final E[] source;
+    private final int start1;
+    private final int end1;
+    private final int start2;
+    private final int end2;
+    private final E[] target;
+    private final int targetStart;
+    private final Comparator<? super E> comparator;
+
+    MergeTask(E[] source, int start1, int end1, int start2, int end2, E[] target, int targetStart,
+        Comparator<? super E> comparator) {
+      this.source = source;
+      this.start1 = start1;
+      this.end1 = end1;
+      this.start2 = start2;
+      this.end2 = end2;
+      this.target = target;
+      this.targetStart = targetStart;
+      this.comparator = comparator;
+    }
+
+    @Override
+    protected void compute() {
+      if ((end1 - start1) + (end2 - start2) <= parallelThreshold) {
+        merge(source, start1, end1, start2, end2, target, targetStart, comparator);
+        return;
+      }
+      int m1;
+      int m2;
+      if (end1 - start1 >= end2 - start2) {
+        m1 = midPoint(start1, end1);
+        m2 = lowerBound(source, start2, end2, source[m1], comparator);
+      } else {
+        m2 = midPoint(start2, end2);
+        m1 = upperBound(source, start1, end1, source[m2], comparator);
+      }
+      int targetMiddle = targetStart + (m1 - start1) + (m2 - start2);
+      invokeAll(new MergeTask<>(source, start1, m1, start2, m2, target, targetStart, comparator),
+          new MergeTask<>(source, m1, end1, m2, end2, target, targetMiddle, comparator));
+    }
+  }
+}
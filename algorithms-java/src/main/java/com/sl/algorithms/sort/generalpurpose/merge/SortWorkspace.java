@@ -0,0 +1,99 @@
+package com.sl.algorithms.sort.generalpurpose.merge;
+
+import java.util.Arrays;
+
+/**
+ * <p>Auxiliary buffers for the merge sorts, kept across sort calls, so that steady-state sorting
+ * does not allocate.</p>
+ * <br><u>Usage</u>: <br>(1) caller-owned: <code>new TopDownMergeSort&lt;&gt;(new
+ * SortWorkspace())</code>, for an engine used by a single thread at a time. <br>(2) thread-local:
+ * <code>new TopDownMergeSort&lt;&gt;(SortWorkspace.perThread())</code>, for an engine shared
+ * across threads; every thread borrows its own buffers.<br>
+ * <br><u>Note</u>: a buffer only grows, and lives as long as its workspace (or its thread, for
+ * {@link #perThread()}); the object buffer is cleared after each sort, so it does not hold on to
+ * the sorted elements.<br>
+ */
+@SuppressWarnings("unchecked")
+public class SortWorkspace {
+
+  private static final ThreadLocal<SortWorkspace> threadWorkspace = ThreadLocal
+      .withInitial(SortWorkspace::new);
+
+  private static final SortWorkspace perThread = new SortWorkspace() {
+    @Override
+    public <E> E[] objects(int n) {
+      return threadWorkspace.get().objects(n);
+    }
+
+    @Override
+    public void release(int n) {
+      threadWorkspace.get().release(n);
+    }
+
+    @Override
+    public int[] ints(int n) {
+      return threadWorkspace.get().ints(n);
+    }
+
+    @Override
+    public long[] longs(int n) {
+      return threadWorkspace.get().longs(n);
+    }
+
+    @Override
+    public double[] doubles(int n) {
+      return threadWorkspace.get().doubles(n);
+    }
+  };
+
+  private Object[] objects = new Object[0];
+  private int[] ints = new int[0];
+  private long[] longs = new long[0];
+  private double[] doubles = new double[0];
+
+  /**
+   * @return a workspace which hands out the buffers of the calling thread
+   */
+  public static SortWorkspace perThread() {
+    return perThread;
+  }
+
+  /**
+   * @param n minimum length
+   * @return buffer of at least n elements, to be handed back with {@link #release(int)}
+   */
+  public <E> E[] objects(int n) {
+    if (objects.length < n) {
+      objects = new Object[n];
+    }
+    return (E[]) objects;
+  }
+
+  /**
+   * <br>Clear the first n elements of the object buffer, for them to be garbage-collected.<br>
+   */
+  public void release(int n) {
+    Arrays.fill(objects, 0, Math.min(n, objects.length), null);
+  }
+
+  public int[] ints(int n) {
+    if (ints.length < n) {
+      ints = new int[n];
+    }
+    return ints;
+  }
+
+  public long[] longs(int n) {
+    if (longs.length < n) {
+      longs = new long[n];
+    }
+    return longs;
+  }
+
+  public double[] doubles(int n) {
+    if (doubles.length < n) {
+      doubles = new double[n];
+    }
+    return doubles;
+  }
+}
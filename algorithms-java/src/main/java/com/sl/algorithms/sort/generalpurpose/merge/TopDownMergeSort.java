@@ -3,19 +3,42 @@ package com.sl.algorithms.sort.generalpurpose.merge;
 import static com.sl.algorithms.core.utils.Formulas.midPoint;
 
 import com.sl.algorithms.core.interfaces.merge.MergeEngine;
+import com.sl.algorithms.core.interfaces.sort.PrimitiveSortingEngine;
 import com.sl.algorithms.core.list.ListNode;
 import com.sl.algorithms.core.list.merge.LinkedListMergeDnQ;
+import com.sl.algorithms.sort.generalpurpose.smalldata.InsertionSort;
+import java.util.Comparator;
 
 /**
  * <p>TopDownMergeSort recursively splits the array into sub-lists and merges them to produce a
  * sorted list.</p>
+ * <p><u>Primitives</u>: int[], long[] and double[] are sorted without boxing, with a single aux
+ * buffer per sort and an {@link InsertionSort} cut-off for small partitions.</p>
+ * <p><u>Buffers</u>: with a {@link SortWorkspace}, the aux buffer is borrowed from it rather than
+ * allocated on every sort.</p>
  *
  * @see MergeSort
  */
 @SuppressWarnings("unchecked")
-public class TopDownMergeSort<T extends Comparable> extends MergeSort<T> {
+public class TopDownMergeSort<T extends Comparable> extends MergeSort<T> implements
+    PrimitiveSortingEngine {
 
   private static final MergeEngine mergeEngine = new LinkedListMergeDnQ();
+  private static final int INSERTION_SORT_THRESHOLD = 16;
+
+  private final InsertionSort<T> insertionSort = new InsertionSort<>();
+  private final SortWorkspace workspace;
+
+  public TopDownMergeSort() {
+    workspace = null;
+  }
+
+  public TopDownMergeSort(SortWorkspace workspace) {
+    if (workspace == null) {
+      throw new IllegalArgumentException("workspace is null");
+    }
+    this.workspace = workspace;
+  }
 
   /**
    * <br><u>Steps</u>: <br>(0) if list is of size=1, return as is (i.e. base case). <br>(1)
@@ -26,14 +49,54 @@ public class TopDownMergeSort<T extends Comparable> extends MergeSort<T> {
    */
   @Override
   public void sort(T[] objects) {
+    sort(objects, naturalOrder());
+  }
+
+  @Override
+  public <E> void sort(E[] objects, Comparator<? super E> comparator) {
     checkArray(objects);
+    checkComparator(comparator);
     int n = objects.length;
     if (n == 1) {
       return;
     }
-    T[] aux = (T[]) new Comparable[n];
+    E[] aux = workspace == null ? (E[]) new Object[n] : workspace.objects(n);
     System.arraycopy(objects, 0, aux, 0, n);
-    topDownMerge(aux, 0, n, objects);
+    try {
+      topDownMerge(aux, 0, n, objects, comparator);
+    } finally {
+      if (workspace != null) {
+        workspace.release(n);
+      }
+    }
+  }
+
+  @Override
+  public void sort(int[] nums) {
+    checkArray(nums);
+    int n = nums.length;
+    int[] aux = workspace == null ? new int[n] : workspace.ints(n);
+    System.arraycopy(nums, 0, aux, 0, n);
+    topDownMerge(aux, 0, n, nums);
+  }
+
+  @Override
+  public void sort(long[] nums) {
+    checkArray(nums);
+    int n = nums.length;
+    long[] aux = workspace == null ? new long[n] : workspace.longs(n);
+    System.arraycopy(nums, 0, aux, 0, n);
+    topDownMerge(aux, 0, n, nums);
+  }
+
+  @Override
+  public void sort(double[] nums) {
+    checkArray(nums);
+    int n = moveNaNsToEnd(nums);
+    double[] aux = workspace == null ? new double[n] : workspace.doubles(n);
+    System.arraycopy(nums, 0, aux, 0, n);
+    topDownMerge(aux, 0, n, nums);
+    orderSignedZeros(nums, n);
   }
 
   /**
@@ -43,15 +106,54 @@ public class TopDownMergeSort<T extends Comparable> extends MergeSort<T> {
    * @param s start index (inclusive)
    * @param e end index (exclusive)
    * @param target output sorted array
+   * @param comparator the ordering
    */
-  private void topDownMerge(T[] source, int s, int e, T[] target) {
+  protected <E> void topDownMerge(E[] source, int s, int e, E[] target,
+      Comparator<? super E> comparator) {
     if (e - s < 2) { // base condition
       return;
     }
     int m = midPoint(s, e);
     // split into 2 halves, recursively, and sort from target to source
-    topDownMerge(target, s, m, source); // sort the left side
-    topDownMerge(target, m, e, source); // sort the right side
+    topDownMerge(target, s, m, source, comparator); // sort the left side
+    topDownMerge(target, m, e, source, comparator); // sort the right side
+    merge(source, s, m, e, target, comparator);
+  }
+
+  /**
+   * <br>Same ping-pong as for objects; a small partition is sorted in-place, directly in the
+   * target, which holds the same elements as the source at that point.<br>
+   */
+  private void topDownMerge(int[] source, int s, int e, int[] target) {
+    if (e - s <= INSERTION_SORT_THRESHOLD) {
+      insertionSort.sort(target, s, e - 1);
+      return;
+    }
+    int m = midPoint(s, e);
+    topDownMerge(target, s, m, source);
+    topDownMerge(target, m, e, source);
+    merge(source, s, m, e, target);
+  }
+
+  private void topDownMerge(long[] source, int s, int e, long[] target) {
+    if (e - s <= INSERTION_SORT_THRESHOLD) {
+      insertionSort.sort(target, s, e - 1);
+      return;
+    }
+    int m = midPoint(s, e);
+    topDownMerge(target, s, m, source);
+    topDownMerge(target, m, e, source);
+    merge(source, s, m, e, target);
+  }
+
+  private void topDownMerge(double[] source, int s, int e, double[] target) {
+    if (e - s <= INSERTION_SORT_THRESHOLD) {
+      insertionSort.sort(target, s, e - 1);
+      return;
+    }
+    int m = midPoint(s, e);
+    topDownMerge(target, s, m, source);
+    topDownMerge(target, m, e, source);
     merge(source, s, m, e, target);
   }
 
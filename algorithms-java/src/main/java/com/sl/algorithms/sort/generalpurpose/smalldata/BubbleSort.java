@@ -4,6 +4,7 @@ import static com.sl.algorithms.core.utils.ArrayOps.swap;
 
 import com.sl.algorithms.core.interfaces.sort.SortingEngine;
 import com.sl.algorithms.core.list.ListNode;
+import java.util.Comparator;
 
 /**
  * <br>Quadratic complexity sort algorithm, with very limited practical use.<br>
@@ -13,16 +14,22 @@ public class BubbleSort<T extends Comparable> implements SortingEngine<T> {
 
   @Override
   public void sort(T[] objects) {
+    sort(objects, naturalOrder());
+  }
+
+  @Override
+  public <E> void sort(E[] objects, Comparator<? super E> comparator) {
     checkArray(objects);
+    checkComparator(comparator);
     int n = objects.length;
     if (n == 1) {
       return;
     }
     for (int i = 0; i < n - 1; i++) {
       for (int j = 0; j < n - i - 1; j++) {
-        T curr = objects[j];
-        T next = objects[j + 1];
-        if (curr.compareTo(next) > 0) {
+        E curr = objects[j];
+        E next = objects[j + 1];
+        if (comparator.compare(curr, next) > 0) {
           swap(objects, j, j + 1);
         }
       }
@@ -1,7 +1,9 @@
 package com.sl.algorithms.sort.generalpurpose.smalldata;
 
+import com.sl.algorithms.core.interfaces.sort.PrimitiveSortingEngine;
 import com.sl.algorithms.core.interfaces.sort.SortingEngine;
 import com.sl.algorithms.core.list.ListNode;
+import java.util.Comparator;
 
 /**
  * <br>In-place, stable and online quadratic-complexity sort algorithm useful for small
@@ -13,20 +15,42 @@ import com.sl.algorithms.core.list.ListNode;
  * <br><u>Inner Loop</u>:&nbsp;operates on the Sorted portion.<br> <a
  * href="https://en.wikipedia.org/wiki/Insertion_sort">Reference</a><br>
  */
-public class InsertionSort<T extends Comparable> implements SortingEngine<T> {
+public class InsertionSort<T extends Comparable> implements SortingEngine<T>,
+    PrimitiveSortingEngine {
 
-  @SuppressWarnings("unchecked") // compareTo
   @Override
   public void sort(T[] objects) {
+    sort(objects, naturalOrder());
+  }
+
+  @Override
+  public <E> void sort(E[] objects, Comparator<? super E> comparator) {
     checkArray(objects);
+    checkComparator(comparator);
     int n = objects.length;
     if (n == 1) {
       return;
     }
-    for (int i = 1; i < n; i++) {
-      T pivot = objects[i];
+    sort(objects, 0, n - 1, comparator);
+  }
+
+  /**
+   * <br>Sort a given portion of the array; used as the small-partition cut-off by the
+   * divide-n-conquer sorts.<br>
+   *
+   * @param objects array to be sorted
+   * @param s start index (inclusive)
+   * @param e end index (inclusive)
+   */
+  public void sort(T[] objects, int s, int e) {
+    sort(objects, s, e, naturalOrder());
+  }
+
+  public <E> void sort(E[] objects, int s, int e, Comparator<? super E> comparator) {
+    for (int i = s + 1; i <= e; i++) {
+      E pivot = objects[i];
       int j = i - 1;
-      while (j >= 0 && pivot.compareTo(objects[j]) < 0) {
+      while (j >= s && comparator.compare(pivot, objects[j]) < 0) {
         objects[j + 1] = objects[j];
         j--;
       }
@@ -34,6 +58,62 @@ public class InsertionSort<T extends Comparable> implements SortingEngine<T> {
     }
   }
 
+  @Override
+  public void sort(int[] nums) {
+    checkArray(nums);
+    sort(nums, 0, nums.length - 1);
+  }
+
+  public void sort(int[] nums, int s, int e) {
+    for (int i = s + 1; i <= e; i++) {
+      int pivot = nums[i];
+      int j = i - 1;
+      while (j >= s && pivot < nums[j]) {
+        nums[j + 1] = nums[j];
+        j--;
+      }
+      nums[j + 1] = pivot;
+    }
+  }
+
+  @Override
+  public void sort(long[] nums) {
+    checkArray(nums);
+    sort(nums, 0, nums.length - 1);
+  }
+
+  public void sort(long[] nums, int s, int e) {
+    for (int i = s + 1; i <= e; i++) {
+      long pivot = nums[i];
+      int j = i - 1;
+      while (j >= s && pivot < nums[j]) {
+        nums[j + 1] = nums[j];
+        j--;
+      }
+      nums[j + 1] = pivot;
+    }
+  }
+
+  @Override
+  public void sort(double[] nums) {
+    checkArray(nums);
+    int n = moveNaNsToEnd(nums);
+    sort(nums, 0, n - 1);
+    orderSignedZeros(nums, n);
+  }
+
+  public void sort(double[] nums, int s, int e) {
+    for (int i = s + 1; i <= e; i++) {
+      double pivot = nums[i];
+      int j = i - 1;
+      while (j >= s && pivot < nums[j]) {
+        nums[j + 1] = nums[j];
+        j--;
+      }
+      nums[j + 1] = pivot;
+    }
+  }
+
   /**
    * <a href="https://leetcode.com/problems/insertion-sort-list/description/">Reference</a>
    */
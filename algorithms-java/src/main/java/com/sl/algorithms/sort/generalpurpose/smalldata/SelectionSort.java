@@ -4,6 +4,7 @@ import static com.sl.algorithms.core.utils.ArrayOps.swap;
 
 import com.sl.algorithms.core.interfaces.sort.SortingEngine;
 import com.sl.algorithms.core.list.ListNode;
+import java.util.Comparator;
 
 /**
  * <p>In-place quadratic-complexity algorithm, useful for small data-set.</p>
@@ -16,7 +17,13 @@ public class SelectionSort<T extends Comparable> implements SortingEngine<T> {
 
   @Override
   public void sort(T[] objects) {
+    sort(objects, naturalOrder());
+  }
+
+  @Override
+  public <E> void sort(E[] objects, Comparator<? super E> comparator) {
     checkArray(objects);
+    checkComparator(comparator);
     int n = objects.length;
     if (n == 1) {
       return;
@@ -25,9 +32,9 @@ public class SelectionSort<T extends Comparable> implements SortingEngine<T> {
       int minIndex = i;
       for (int j = i + 1; j < n;
           j++) { // this is where a heap will be best to bring down the overall complexity down to nlogn
-        T curr = objects[j];
-        T min = objects[minIndex];
-        if (curr.compareTo(min) < 0) {
+        E curr = objects[j];
+        E min = objects[minIndex];
+        if (comparator.compare(curr, min) < 0) {
           minIndex = j;
         }
       }
@@ -0,0 +1,124 @@
+package com.sl.algorithms.core.array.merge;
+
+import com.sl.algorithms.core.interfaces.merge.ArrayMergeEngine;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+public class ArrayMergeTest {
+
+  private ArrayMergeEngine mergeEngine;
+
+  @Test
+  public void testLoserTree() {
+    mergeEngine = new ArrayMergeLoserTree();
+    testBaseCases();
+    testMergeKSortedArrays();
+    testMergeIntoOutput();
+  }
+
+  @Test
+  public void testParallelLoserTree() {
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      assertThrows(IllegalArgumentException.class, () -> new ParallelArrayMergeLoserTree(0));
+      assertThrows(IllegalArgumentException.class,
+          () -> new ParallelArrayMergeLoserTree(1, null));
+      mergeEngine = new ParallelArrayMergeLoserTree(100, pool);
+      testBaseCases();
+      testMergeKSortedArrays();
+      testMergeIntoOutput();
+      mergeEngine = new ParallelArrayMergeLoserTree(1, pool);
+      testMergeKSortedArrays();
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testParallelPartsOfManyArrays() { // far more arrays than samples: k >> parts * 32
+    int k = 20_000;
+    int parts = 4;
+    long[][] sortedArrays = new long[k][];
+    Random random = new Random(20000);
+    for (int i = 0; i < k; i++) { // disjoint ranges of values, the arrays in random order
+      int range = random.nextInt(k);
+      sortedArrays[i] = i % 5 == 0 ? new long[0]
+          : LongStream.range(range * 10L, range * 10L + 1 + random.nextInt(9)).toArray();
+    }
+    long n = Arrays.stream(sortedArrays).mapToLong(a -> a.length).sum();
+    int[][] bounds = ParallelArrayMergeLoserTree.bounds(sortedArrays, n, parts);
+    for (int j = 0; j < parts; j++) {
+      long size = 0;
+      for (int i = 0; i < k; i++) {
+        size += bounds[j + 1][i] - bounds[j][i];
+      }
+      assertTrue(size > n / parts / 2 && size < 2 * n / parts, "part " + j + ": " + size);
+    }
+    ForkJoinPool pool = new ForkJoinPool(parts);
+    try {
+      long[] expected = Arrays.stream(sortedArrays).flatMapToLong(Arrays::stream).sorted()
+          .toArray();
+      assertArrayEquals(expected,
+          new ParallelArrayMergeLoserTree(1, pool).mergeKSortedArrays(sortedArrays));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  private void testBaseCases() {
+    assertThrows(IllegalArgumentException.class, () -> mergeEngine.mergeKSortedArrays(null));
+    assertThrows(IllegalArgumentException.class,
+        () -> mergeEngine.mergeKSortedArrays(new long[][]{{1}, null}));
+    assertThrows(IllegalArgumentException.class,
+        () -> mergeEngine.mergeKSortedArrays(new long[][]{{1}}, new long[1], 1));
+    assertThrows(IllegalArgumentException.class,
+        () -> mergeEngine.mergeKSortedArrays(new long[][]{{1}}, null, 0));
+    assertThrows(IllegalArgumentException.class,
+        () -> mergeEngine.mergeKSortedArrays(new long[][]{{1}}, null));
+    assertArrayEquals(new long[0], mergeEngine.mergeKSortedArrays(new long[0][]));
+    assertArrayEquals(new long[0], mergeEngine.mergeKSortedArrays(new long[][]{{}, {}}));
+    assertArrayEquals(new long[]{1, 2, 3},
+        mergeEngine.mergeKSortedArrays(new long[][]{{1, 2, 3}}));
+    assertArrayEquals(new long[]{-5, 1, 2, 2, 3, 4, 9},
+        mergeEngine.mergeKSortedArrays(new long[][]{{2, 4}, {}, {-5, 2, 9}, {1, 3}}));
+  }
+
+  private void testMergeKSortedArrays() {
+    Random random = new Random(100000);
+    for (int k : new int[]{2, 3, 7, 64, 300}) {
+      long[][] sortedArrays = new long[k][];
+      for (int i = 0; i < k; i++) {
+        int length = i % 5 == 0 ? 0 : random.nextInt(100000 / k);
+        // many duplicates, across the arrays and within them
+        sortedArrays[i] = i % 2 == 0 ? random.longs(length, -100, 100).sorted().toArray()
+            : random.longs(length).sorted().toArray();
+      }
+      long[] expected = Arrays.stream(sortedArrays).flatMapToLong(LongStream::of).sorted()
+          .toArray();
+      assertArrayEquals(expected, mergeEngine.mergeKSortedArrays(sortedArrays));
+      LongStream.Builder sink = LongStream.builder();
+      mergeEngine.mergeKSortedArrays(sortedArrays, sink);
+      assertArrayEquals(expected, sink.build().toArray());
+    }
+  }
+
+  private void testMergeIntoOutput() {
+    long[][] sortedArrays = new long[4][];
+    for (int i = 0; i < sortedArrays.length; i++) {
+      sortedArrays[i] = LongStream.range(0, 1000).map(x -> x * 4 + 3).toArray();
+    }
+    long[] output = new long[4002];
+    output[0] = -1;
+    output[4001] = -1;
+    mergeEngine.mergeKSortedArrays(sortedArrays, output, 1);
+    assertEquals(-1, output[0]);
+    assertEquals(-1, output[4001]);
+    for (int i = 1; i <= 4000; i++) {
+      assertEquals((i - 1) / 4 * 4 + 3, output[i]);
+    }
+  }
+}
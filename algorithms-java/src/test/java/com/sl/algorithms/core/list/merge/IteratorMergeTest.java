@@ -0,0 +1,119 @@
+package com.sl.algorithms.core.list.merge;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+public class IteratorMergeTest {
+
+  @Test
+  public void testBaseCases() {
+    assertThrows(IllegalArgumentException.class, () -> IteratorMergeLoserTree.merge(null));
+    assertThrows(IllegalArgumentException.class,
+        () -> IteratorMergeLoserTree.merge(Arrays.asList(List.of(1).iterator(), null)));
+    assertThrows(IllegalArgumentException.class,
+        () -> IteratorMergeLoserTree.merge(List.of(List.of(1).iterator()), null));
+    assertThrows(IllegalArgumentException.class,
+        () -> IteratorMergeLoserTree.stream(Arrays.asList(List.of(1).spliterator(), null)));
+    Iterator<Integer> empty = IteratorMergeLoserTree.merge(Collections.emptyList());
+    assertFalse(empty.hasNext());
+    assertThrows(NoSuchElementException.class, empty::next);
+    Iterator<Integer> merged = IteratorMergeLoserTree.merge(
+        List.of(Collections.emptyIterator(), List.of(2, 4).iterator(), List.of(1, 3).iterator()));
+    assertEquals(List.of(1, 2, 3, 4), drain(merged));
+    assertFalse(merged.hasNext());
+  }
+
+  @Test
+  public void testMerge() {
+    Random random = new Random(300);
+    List<List<Integer>> lists = new ArrayList<>();
+    List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i < 300; i++) {
+      List<Integer> list = new ArrayList<>();
+      for (int j = random.nextInt(100); j > 0; j--) {
+        list.add(random.nextInt(1000));
+      }
+      Collections.sort(list);
+      lists.add(list);
+      expected.addAll(list);
+    }
+    Collections.sort(expected);
+    List<Iterator<Integer>> iterators = new ArrayList<>();
+    List<Spliterator<Integer>> spliterators = new ArrayList<>();
+    for (List<Integer> list : lists) {
+      iterators.add(list.iterator());
+      spliterators.add(list.spliterator());
+    }
+    assertEquals(expected, drain(IteratorMergeLoserTree.merge(iterators)));
+    assertEquals(expected,
+        IteratorMergeLoserTree.stream(spliterators).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void testTies() { // on a tie, the element of the 1st source goes first
+    List<Iterator<String>> iterators = List.of(List.of("b", "c").iterator(),
+        List.of("A", "B", "C").iterator(), List.of("a", "C").iterator());
+    assertEquals(List.of("A", "a", "b", "B", "c", "C", "C"),
+        drain(IteratorMergeLoserTree.merge(iterators, String.CASE_INSENSITIVE_ORDER)));
+    assertEquals(List.of(3, 2, 2, 1), drain(IteratorMergeLoserTree.merge(
+        List.of(List.of(3, 2).iterator(), List.of(2, 1).iterator()), Comparator.reverseOrder())));
+  }
+
+  @Test
+  public void testPullOneAhead() {
+    CountingIterator source1 = new CountingIterator(List.of(1, 4, 5));
+    CountingIterator source2 = new CountingIterator(List.of(2, 3, 6));
+    Iterator<Integer> merged = IteratorMergeLoserTree.merge(List.of(source1, source2));
+    assertEquals(0, source1.pulled + source2.pulled); // nothing pulled up front
+    assertEquals(1, merged.next().intValue());
+    assertEquals(1, source1.pulled);
+    assertEquals(1, source2.pulled);
+    assertEquals(2, merged.next().intValue()); // source1 pulled again, for the 2nd element
+    assertEquals(2, source1.pulled);
+    assertEquals(1, source2.pulled);
+    assertEquals(3, merged.next().intValue());
+    assertEquals(2, source1.pulled);
+    assertEquals(2, source2.pulled);
+    assertEquals(List.of(4, 5, 6), drain(merged));
+    assertEquals(3, source1.pulled);
+    assertEquals(3, source2.pulled);
+  }
+
+  private static <T> List<T> drain(Iterator<T> iterator) {
+    List<T> list = new ArrayList<>();
+    iterator.forEachRemaining(list::add);
+    return list;
+  }
+
+  private static class CountingIterator implements Iterator<Integer> {
+
+    private final Iterator<Integer> iterator;
+    private int pulled;
+
+    CountingIterator(List<Integer> list) {
+      this.iterator = list.iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return iterator.hasNext();
+    }
+
+    @Override
+    public Integer next() {
+      pulled++;
+      return iterator.next();
+    }
+  }
+}
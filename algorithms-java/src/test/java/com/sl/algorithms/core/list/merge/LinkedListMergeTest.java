@@ -5,6 +5,9 @@ import static com.sl.algorithms.core.list.ListNode.createLinkedList;
 import com.sl.algorithms.core.interfaces.merge.MergeEngine;
 import com.sl.algorithms.core.list.ListNode;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import org.junit.jupiter.api.Test;
 
 public class LinkedListMergeTest {
@@ -12,11 +15,20 @@ public class LinkedListMergeTest {
   private MergeEngine<Integer> mergeEngine;
 
   @Test
+  @SuppressWarnings("unchecked")
   public void testIterative() {
     mergeEngine = new LinkedListMergeIterative<>();
     testMerge2SortedListsNull();
     testMerge2SortedLists();
     testMergeKSortedLists();
+    testMergeWithComparator();
+    assertNull(mergeEngine.mergeKSortedLists(new ListNode[0]));
+    assertNull(mergeEngine.mergeKSortedLists(new ListNode[0], Comparator.reverseOrder()));
+    assertEquals("[1,2]", mergeEngine.mergeKSortedLists(
+        new ListNode[]{createLinkedList(new Integer[]{1, 2})}).toString());
+    assertEquals("[2,1]", mergeEngine.mergeKSortedLists(
+        new ListNode[]{createLinkedList(new Integer[]{2, 1})}, Comparator.reverseOrder())
+        .toString());
   }
 
   @Test
@@ -25,6 +37,71 @@ public class LinkedListMergeTest {
     testMerge2SortedListsNull();
     testMerge2SortedLists();
     testMergeKSortedLists();
+    testMergeWithComparator();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testDnQLongLists() { // no recursion per node: no stack overflow
+    MergeEngine<Integer> dnqMergeEngine = new LinkedListMergeDnQ<>();
+    int n = 1_000_000;
+    ListNode<Integer>[] lists = new ListNode[5];
+    for (int i = 0; i < lists.length; i++) {
+      ListNode<Integer> dummyNode = ListNode.dummyNode();
+      ListNode<Integer> tail = dummyNode;
+      for (int j = i; j < n; j += lists.length) {
+        tail.next = new ListNode<>(j);
+        tail = tail.next;
+      }
+      lists[i] = dummyNode.next;
+    }
+    ListNode<Integer> merged = dnqMergeEngine.mergeKSortedLists(lists);
+    for (int j = 0; j < n; j++, merged = merged.next) {
+      assertEquals(j, merged.data.intValue());
+    }
+    assertNull(merged);
+    assertNull(dnqMergeEngine.mergeKSortedLists(new ListNode[0]));
+    assertEquals("[1,2,3]", dnqMergeEngine.mergeKSortedLists(
+        new ListNode[]{null, createLinkedList(new Integer[]{1, 3}), null,
+            createLinkedList(new Integer[]{2})}).toString());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testParallelDnQ() {
+    assertThrows(IllegalArgumentException.class, () -> new ParallelLinkedListMergeDnQ<>(1));
+    assertThrows(IllegalArgumentException.class,
+        () -> new ParallelLinkedListMergeDnQ<>(2, null));
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      mergeEngine = new ParallelLinkedListMergeDnQ<>(2, pool);
+      testMerge2SortedListsNull();
+      testMerge2SortedLists();
+      testMergeKSortedLists();
+      testMergeWithComparator();
+      // 1000 lists, some of them empty: merged 2 at a time, across the pool
+      Random random = new Random(1000);
+      ListNode<Integer>[] lists = new ListNode[1000];
+      int n = 0;
+      for (int i = 0; i < lists.length; i++) {
+        ListNode<Integer> dummyNode = ListNode.dummyNode();
+        ListNode<Integer> tail = dummyNode;
+        for (int value = random.nextInt(100), j = random.nextInt(50); j > 0; j--, n++) {
+          tail.next = new ListNode<>(value);
+          tail = tail.next;
+          value += random.nextInt(3);
+        }
+        lists[i] = dummyNode.next;
+      }
+      ListNode<Integer> merged = mergeEngine.mergeKSortedLists(lists, Comparator.naturalOrder());
+      for (int j = 0; j < n; j++, merged = merged.next) {
+        assertTrue(merged.next == null || merged.data <= merged.next.data);
+      }
+      assertNull(merged);
+      assertNull(mergeEngine.mergeKSortedLists(new ListNode[0]));
+    } finally {
+      pool.shutdown();
+    }
   }
 
   @Test
@@ -33,6 +110,58 @@ public class LinkedListMergeTest {
     testMerge2SortedListsNull();
     testMerge2SortedLists();
     testMergeKSortedLists();
+    testMergeWithComparator();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testLoserTree() {
+    mergeEngine = new LinkedListMergeLoserTree<>();
+    testMerge2SortedListsNull();
+    testMerge2SortedLists();
+    testMergeKSortedLists();
+    testMergeWithComparator();
+    assertNull(mergeEngine.mergeKSortedLists(new ListNode[0]));
+    assertNull(mergeEngine.mergeKSortedLists(new ListNode[]{null, ListNode.dummyNode()}));
+    ListNode<Integer> newList1 = createLinkedList(new Integer[]{2, 7});
+    ListNode<Integer> newList2 = createLinkedList(new Integer[]{1, 3, 8, 9});
+    ListNode<Integer> newList3 = createLinkedList(new Integer[]{3, 4, 5});
+    assertEquals("[1,2,3,3,4,5,7,8,9]", mergeEngine.mergeKSortedLists(
+        new ListNode[]{null, newList1, ListNode.dummyNode(), newList2, null, newList3})
+        .toString());
+    assertThrows(IllegalArgumentException.class,
+        () -> mergeEngine.mergeKSortedLists(new ListNode[]{newList1, newList2}, null));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testComparatorTies() { // on a tie, the element of the 1st list goes first
+    MergeEngine<String>[] stringMergeEngines = new MergeEngine[]{new LinkedListMergeIterative<>(),
+        new LinkedListMergeDnQ<>(), new LinkedListMergePQ<>(), new LinkedListMergeLoserTree<>()};
+    for (MergeEngine<String> stringMergeEngine : stringMergeEngines) {
+      ListNode<String> stringNode1 = createLinkedList(new String[]{"a", "b", "c"});
+      ListNode<String> stringNode2 = createLinkedList(new String[]{"A", "B", "D"});
+      assertEquals("[a,A,b,B,c,D]", stringMergeEngine
+          .merge2SortedLists(stringNode1, stringNode2, String.CASE_INSENSITIVE_ORDER).toString());
+      // consecutive equal keys in list1: all of them go before the equal key of list2
+      stringNode1 = createLinkedList(new String[]{"a", "A"});
+      stringNode2 = createLinkedList(new String[]{"a"});
+      assertEquals("[a,A,a]", stringMergeEngine
+          .merge2SortedLists(stringNode1, stringNode2, String.CASE_INSENSITIVE_ORDER).toString());
+      stringNode1 = createLinkedList(new String[]{"b", "B", "c"});
+      stringNode2 = createLinkedList(new String[]{"a", "b"});
+      ListNode<String> stringNode3 = createLinkedList(new String[]{"A", "B", "b", "C"});
+      assertEquals("[a,A,b,B,b,B,b,c,C]", stringMergeEngine.mergeKSortedLists(
+          new ListNode[]{stringNode1, stringNode2, stringNode3}, String.CASE_INSENSITIVE_ORDER)
+          .toString());
+    }
+    MergeEngine<String> stringMergeEngine = new LinkedListMergeLoserTree<>();
+    ListNode<String> stringNode1 = createLinkedList(new String[]{"b", "c"});
+    ListNode<String> stringNode2 = createLinkedList(new String[]{"A", "B", "C"});
+    ListNode<String> stringNode3 = createLinkedList(new String[]{"a", "C"});
+    assertEquals("[A,a,b,B,c,C,C]", stringMergeEngine.mergeKSortedLists(
+        new ListNode[]{stringNode1, stringNode2, stringNode3}, String.CASE_INSENSITIVE_ORDER)
+        .toString());
   }
 
   private void testMerge2SortedListsNull() {
@@ -72,6 +201,21 @@ public class LinkedListMergeTest {
         mergeEngine.merge2SortedLists(newList1, newList2).toString());
   }
 
+  @SuppressWarnings("unchecked")
+  private void testMergeWithComparator() {
+    ListNode<Integer> newList1 = createLinkedList(new Integer[]{6, 5, 4});
+    ListNode<Integer> newList2 = createLinkedList(new Integer[]{6, 5, 4, 2, 1});
+    assertEquals("[6,6,5,5,4,4,2,1]",
+        mergeEngine.merge2SortedLists(newList1, newList2, Comparator.reverseOrder()).toString());
+
+    newList1 = createLinkedList(new Integer[]{6, 5, 4});
+    newList2 = createLinkedList(new Integer[]{6, 5, 4, 2, 1});
+    ListNode<Integer> newList3 = createLinkedList(new Integer[]{3});
+    assertEquals("[6,6,5,5,4,4,3,2,1]",
+        mergeEngine.mergeKSortedLists(new ListNode[]{newList1, newList2, newList3},
+            Comparator.reverseOrder()).toString());
+  }
+
   @SuppressWarnings("unchecked")
   private void testMergeKSortedLists() {
     ListNode<Integer> newList1 = createLinkedList(new Integer[]{4, 5, 6});
@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.is;
+import java.util.Comparator;
 import org.junit.jupiter.api.Test;
 
 public class BinarySearchTest {
@@ -17,18 +18,21 @@ public class BinarySearchTest {
   public void testBinarySearchRecursive() {
     binarySearch = new RecursiveBinarySearch<>();
     testFindIndex();
+    testFindIndexWithComparator();
   }
 
   @Test
   public void testBinarySearchIterative() {
     binarySearch = new IterativeBinarySearch<>();
     testFindIndex();
+    testFindIndexWithComparator();
   }
 
   @Test
   public void testBinarySearchGeneric() {
     binarySearch = new GenericBinarySearch<>();
     testFindIndex();
+    testFindIndexWithComparator();
     testFindIndexInRotatedArray();
     testRotatedArrayAllElementsSame();
     testRotatedSparseArray();
@@ -43,6 +47,18 @@ public class BinarySearchTest {
     assertEquals(5, binarySearch.findIndex(new Integer[]{1, 2, 3, 4, 5, 6}, 6));
   }
 
+  private void testFindIndexWithComparator() {
+    Comparator<Integer> descending = Comparator.reverseOrder();
+    assertEquals(0, binarySearch.findIndex(new Integer[]{1}, 1, descending));
+    assertEquals(2, binarySearch.findIndex(new Integer[]{6, 5, 4, 3, 2, 1}, 4, descending));
+    assertEquals(ELEMENT_NOT_FOUND,
+        binarySearch.findIndex(new Integer[]{6, 5, 4, 3, 2, 1}, 10, descending));
+    assertEquals(0, binarySearch.findIndex(new Integer[]{6, 5, 4, 3, 2, 1}, 6, descending));
+    assertEquals(5, binarySearch.findIndex(new Integer[]{6, 5, 4, 3, 2, 1}, 1, descending));
+    assertEquals(3, binarySearch.findIndex(new String[]{"a", "B", "c", "D", "e"}, "d",
+        String.CASE_INSENSITIVE_ORDER));
+  }
+
   private void testFindIndexInRotatedArray() {
     { // sorted & rotated array
       assertEquals(3, binarySearch.findIndex(new Integer[]{4, 5, 1, 2, 3}, 2));
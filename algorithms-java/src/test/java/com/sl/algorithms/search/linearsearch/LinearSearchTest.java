@@ -2,6 +2,7 @@ package com.sl.algorithms.search.linearsearch;
 
 import com.sl.algorithms.core.interfaces.search.Search;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.Comparator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -24,6 +25,20 @@ public class LinearSearchTest {
     assertEquals(5, searchEngine.findIndex(new Integer[]{1, 2, 3, 4, 5, 6}, 6));
   }
 
+  @Test
+  public void testLinearSearchWithComparator() {
+    assertEquals(2, searchEngine.findIndex(new String[]{"a", "B", "c", "D"}, "C",
+        String.CASE_INSENSITIVE_ORDER));
+    assertEquals(Search.ELEMENT_NOT_FOUND,
+        searchEngine.findIndex(new String[]{"a", "B", "c", "D"}, "e",
+            String.CASE_INSENSITIVE_ORDER));
+    int[][] points = new int[][]{{3, 0}, {-7, 1}, {5, 2}};
+    assertEquals(1, searchEngine.findIndex(points, new int[]{7, 9},
+        Comparator.comparingInt(p -> Math.abs(p[0]))));
+    assertThrows(IllegalArgumentException.class,
+        () -> searchEngine.findIndex(new Integer[]{1, 2}, 1, null));
+  }
+
   @Test
   public void testRotatedSparsedArray() {
     Integer[] highlySparsedArray = new Integer[]{1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1,
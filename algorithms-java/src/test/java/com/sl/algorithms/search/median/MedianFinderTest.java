@@ -9,6 +9,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.is;
+import java.util.Comparator;
 import org.junit.jupiter.api.Test;
 
 public class MedianFinderTest<T extends Comparable> {
@@ -26,6 +27,7 @@ public class MedianFinderTest<T extends Comparable> {
     testFindKthSmallest();
     testFindMinMax();
     testFindMedian();
+    testFindWithComparator();
     testSpecialCases();
   }
 
@@ -37,6 +39,7 @@ public class MedianFinderTest<T extends Comparable> {
     testFindKthSmallest();
     testFindMinMax();
     testFindMedian();
+    testFindWithComparator();
     testSpecialCases();
   }
 
@@ -48,6 +51,7 @@ public class MedianFinderTest<T extends Comparable> {
     testFindKthSmallest();
     testFindMinMax();
     testFindMedian();
+    testFindWithComparator();
     testSpecialCases();
   }
 
@@ -168,6 +172,28 @@ public class MedianFinderTest<T extends Comparable> {
     }
   }
 
+  private void testFindWithComparator() {
+    {
+      Integer[] sampleData = new Integer[]{7, 1, 5, 3, 9, 2, 8};
+      assertEquals(8, (int) integerMedianFinder
+          .findKthSmallest(sampleData, 2, Comparator.<Integer>reverseOrder()));
+      assertEquals(5, (int) integerMedianFinder
+          .findMedian(sampleData, Comparator.<Integer>reverseOrder()));
+      assertEquals(9, (int) integerMedianFinder
+          .findMinimum(sampleData, Comparator.<Integer>reverseOrder()));
+      assertEquals(1, (int) integerMedianFinder
+          .findMaximum(sampleData, Comparator.<Integer>reverseOrder()));
+    }
+    { // the elements need not be Comparable
+      int[][] points = new int[][]{{3, 0}, {-7, 1}, {5, 2}, {-1, 3}, {2, 4}};
+      Comparator<int[]> byDistance = Comparator.comparingInt(p -> Math.abs(p[0]));
+      assertEquals(2, stringMedianFinder.findKthSmallest(points, 2, byDistance)[0]);
+      assertEquals(3, stringMedianFinder.findMedian(points, byDistance)[0]);
+    }
+    assertThrows(IllegalArgumentException.class,
+        () -> integerMedianFinder.findKthSmallest(new Integer[]{2, 1}, 1, null));
+  }
+
   public void testNullAndEmpty() {
     { // null
       try {
@@ -1,10 +1,12 @@
 package com.sl.algorithms.search.select;
 
+import com.sl.algorithms.core.interfaces.select.PartitionScheme;
 import com.sl.algorithms.core.interfaces.select.QuickSelect;
 import com.sl.algorithms.core.interfaces.shuffle.ShufflingEngine;
 import com.sl.algorithms.search.median.QuickSelectMedianFinder;
 import com.sl.algorithms.shuffle.NaiveShuffle;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.Comparator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -19,6 +21,24 @@ public class QuickSelectTest implements QuickSelect {
     integerShufflingEngine = new NaiveShuffle<>();
   }
 
+  @Test
+  public void testKthSmallestWithComparator() {
+    QuickSelect<Integer> threeWayQuickSelect = new QuickSelectMedianFinder<>(
+        PartitionScheme.THREE_WAY);
+    for (QuickSelect<Integer> quickSelect : new QuickSelect[]{integerQuickSelect,
+        threeWayQuickSelect}) {
+      String[] sampleStrings = new String[]{"Sarika", "nikunj", "Roohani", "sachin"};
+      assertEquals("nikunj",
+          quickSelect.findKthSmallest(sampleStrings, 1, String.CASE_INSENSITIVE_ORDER));
+      assertEquals("sachin",
+          quickSelect.findKthLargest(sampleStrings, 2, String.CASE_INSENSITIVE_ORDER));
+      Integer[] reversed = new Integer[]{7, 6, 5, 4, 3, 3, 2, 1};
+      integerShufflingEngine.shuffle(reversed);
+      assertEquals(6, (int) quickSelect
+          .findKthSmallest(reversed, 2, Comparator.<Integer>reverseOrder()));
+    }
+  }
+
   @Test
   public void testKthSmallest() {
     {
@@ -54,4 +74,30 @@ public class QuickSelectTest implements QuickSelect {
       assertTrue(integerQuickSelect.findKthLargest(reversed, 7) == 1);
     }
   }
+
+  @Test
+  public void testThreeWayPartition() {
+    QuickSelect<Integer> threeWayQuickSelect = new QuickSelectMedianFinder<>(
+        PartitionScheme.THREE_WAY);
+    {
+      Integer[] reversed = new Integer[]{7, 6, 5, 4, 3, 2, 1};
+      assertTrue(threeWayQuickSelect.findKthSmallest(reversed, 2) == 2);
+      assertTrue(threeWayQuickSelect.findKthLargest(reversed, 2) == 6);
+    }
+    { // few distinct keys
+      Integer[] statusCodes = new Integer[100000];
+      for (int i = 0; i < statusCodes.length; i++) {
+        statusCodes[i] = i % 3 == 0 ? 500 : (i % 3 == 1 ? 404 : 200);
+      }
+      integerShufflingEngine.shuffle(statusCodes);
+      assertTrue(threeWayQuickSelect.findKthSmallest(statusCodes, 1) == 200);
+      assertTrue(threeWayQuickSelect.findKthSmallest(statusCodes, 50000) == 404);
+      assertTrue(threeWayQuickSelect.findKthLargest(statusCodes, 1) == 500);
+    }
+    {
+      Integer[] sample = new Integer[]{3, 1, 3, 2, 3, 1};
+      assertArrayEquals(new int[]{3, 5}, threeWayQuickSelect.threeWayPartition(sample, 0, 5, 0));
+      assertTrue(sample[0] < 3 && sample[1] < 3 && sample[2] < 3 && sample[3] == 3);
+    }
+  }
 }
@@ -0,0 +1,162 @@
+package com.sl.algorithms.sort.external;
+
+import com.sl.algorithms.sort.finitegroups.integersorting.RadixSort;
+import com.sl.algorithms.sort.generalpurpose.QuickSort;
+import com.sl.algorithms.sort.generalpurpose.merge.TopDownMergeSort;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+public class ExternalMergeSortTest {
+
+  @Test
+  public void testBaseCases() throws IOException {
+    assertThrows(IllegalArgumentException.class, () -> new IntExternalMergeSort(
+        ExternalMergeSort.MIN_MEMORY_BUDGET - 1, 2, null, new RadixSort<>()));
+    assertThrows(IllegalArgumentException.class,
+        () -> new LongExternalMergeSort(1 << 20, 1, null, new RadixSort<>()));
+    assertThrows(IllegalArgumentException.class,
+        () -> new IntExternalMergeSort(1 << 20, 2, null, null));
+    assertThrows(IllegalArgumentException.class,
+        () -> new LineExternalMergeSort(1 << 20, 2, null, new TopDownMergeSort<>(), null));
+    assertThrows(IllegalArgumentException.class,
+        () -> new IntExternalMergeSort().sort(null, new ByteArrayOutputStream()));
+    { // empty input
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      new IntExternalMergeSort().sort(new ByteArrayInputStream(new byte[0]), out);
+      assertEquals(0, out.size());
+    }
+    { // truncated record
+      ByteArrayInputStream in = new ByteArrayInputStream(new byte[]{0, 0, 0, 1, 0, 0});
+      assertThrows(EOFException.class,
+          () -> new IntExternalMergeSort().sort(in, new ByteArrayOutputStream()));
+    }
+  }
+
+  @Test
+  public void testIntExternalMergeSort() throws IOException {
+    Random random = new Random(100000);
+    int[] nums = new int[100000];
+    for (int i = 0; i < nums.length; i++) {
+      nums[i] = random.nextInt();
+    }
+    int[] expected = nums.clone();
+    Arrays.sort(expected);
+    // fits in a single run: no temporary files
+    assertArrayEquals(expected, sortInts(new IntExternalMergeSort(), nums));
+    Path tempDir = Files.createTempDirectory("runs");
+    try {
+      // ~400 runs of 256 ints, merged 4 at a time i.e. over 5 passes
+      assertArrayEquals(expected,
+          sortInts(new IntExternalMergeSort(1 << 12, 4, tempDir, new QuickSort<>()), nums));
+      assertArrayEquals(expected,
+          sortInts(new IntExternalMergeSort(1 << 12, 1000, tempDir, new RadixSort<>()), nums));
+      assertEquals(0, countFiles(tempDir));
+    } finally {
+      Files.delete(tempDir);
+    }
+  }
+
+  @Test
+  public void testLongExternalMergeSort() throws IOException {
+    Random random = new Random(100000);
+    long[] nums = new long[100000];
+    for (int i = 0; i < nums.length; i++) {
+      nums[i] = random.nextInt(10) == 0 ? random.nextLong() : random.nextInt(100);
+    }
+    long[] expected = nums.clone();
+    Arrays.sort(expected);
+    Path tempDir = Files.createTempDirectory("runs");
+    try {
+      LongExternalMergeSort longExternalMergeSort = new LongExternalMergeSort(1 << 12, 8, tempDir,
+          new RadixSort<>());
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      DataOutputStream out = new DataOutputStream(bytes);
+      for (long num : nums) {
+        out.writeLong(num);
+      }
+      Path input = tempDir.resolve("input");
+      Path output = tempDir.resolve("output");
+      Files.write(input, bytes.toByteArray());
+      longExternalMergeSort.sort(input, output);
+      DataInputStream in = new DataInputStream(
+          new ByteArrayInputStream(Files.readAllBytes(output)));
+      for (long num : expected) {
+        assertEquals(num, in.readLong());
+      }
+      assertEquals(-1, in.read());
+      Files.delete(input);
+      Files.delete(output);
+      assertEquals(0, countFiles(tempDir));
+    } finally {
+      Files.delete(tempDir);
+    }
+  }
+
+  @Test
+  public void testLineExternalMergeSort() throws IOException {
+    {
+      String text = "Sarika\r\nNikunj\rRoohani\n\nSachin\u00e4\nSac";
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      new LineExternalMergeSort().sort(
+          new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), out);
+      assertEquals("\nNikunj\nRoohani\nSac\nSachin\u00e4\nSarika\n",
+          out.toString(StandardCharsets.UTF_8.name()));
+    }
+    Random random = new Random(50000);
+    String[] lines = new String[50000];
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < lines.length; i++) {
+      lines[i] = "https://www.example.com/" + (random.nextBoolean() ? "p\u00e4th/" : "path/")
+          + random.nextInt(5000);
+      text.append(lines[i]).append('\n');
+    }
+    String[] expected = lines.clone();
+    Arrays.sort(expected);
+    Path tempDir = Files.createTempDirectory("runs");
+    try {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      new LineExternalMergeSort(1 << 14, 16, tempDir, new TopDownMergeSort<>(),
+          StandardCharsets.UTF_8).sort(
+          new ByteArrayInputStream(text.toString().getBytes(StandardCharsets.UTF_8)), out);
+      assertArrayEquals(expected, out.toString(StandardCharsets.UTF_8.name()).split("\n"));
+      assertEquals(0, countFiles(tempDir));
+    } finally {
+      Files.delete(tempDir);
+    }
+  }
+
+  private static int[] sortInts(IntExternalMergeSort intExternalMergeSort, int[] nums)
+      throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    for (int num : nums) {
+      out.writeInt(num);
+    }
+    ByteArrayOutputStream sorted = new ByteArrayOutputStream();
+    intExternalMergeSort.sort(new ByteArrayInputStream(bytes.toByteArray()), sorted);
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(sorted.toByteArray()));
+    int[] result = new int[sorted.size() / Integer.BYTES];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = in.readInt();
+    }
+    return result;
+  }
+
+  private static long countFiles(Path dir) throws IOException {
+    try (Stream<Path> files = Files.list(dir)) {
+      return files.count();
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package com.sl.algorithms.sort.external;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+public class MappedRecordSortTest {
+
+  @Test
+  public void testBaseCases() {
+    assertThrows(IllegalArgumentException.class, () -> new MappedRecordSort(7));
+    assertThrows(IllegalArgumentException.class, () -> new MappedRecordSort(12, 5));
+    assertThrows(IllegalArgumentException.class, () -> new MappedRecordSort(16, 0, 15));
+    assertThrows(IllegalArgumentException.class, () -> new MappedRecordSort(16).sort(
+        (ByteBuffer) null));
+    assertThrows(IllegalArgumentException.class,
+        () -> new MappedRecordSort(16).sort(ByteBuffer.allocate(17)));
+    new MappedRecordSort(16).sort(ByteBuffer.allocate(0)); // no records
+  }
+
+  @Test
+  public void testSortByteBuffer() {
+    Random random = new Random(20000);
+    int n = 20000;
+    long[] keys = new long[n];
+    ByteBuffer records = ByteBuffer.allocate(n * 24);
+    for (int i = 0; i < n; i++) { // payload, key, payload
+      keys[i] = random.nextInt(4) == 0 ? random.nextLong() : random.nextInt(50) - 25;
+      records.putInt(i).putLong(keys[i]).putLong(~keys[i]).putInt(i);
+    }
+    records.flip();
+    new MappedRecordSort(24, 4).sort(records);
+    assertRecords(records, 24, 4, keys);
+  }
+
+  @Test
+  public void testSortFile() throws IOException {
+    Random random = new Random(100000);
+    int n = 100000;
+    long[] keys = new long[n];
+    ByteBuffer records = ByteBuffer.allocate(n * 16);
+    for (int i = 0; i < n; i++) {
+      keys[i] = i % 3 == 0 ? Long.MIN_VALUE + random.nextInt(3) : random.nextLong() >> 20;
+      records.putLong(keys[i]).putLong(~keys[i]);
+    }
+    Path file = Files.createTempFile("records", ".bin");
+    try {
+      Files.write(file, records.array());
+      // windows of 512 records: swaps and keys across windows
+      new MappedRecordSort(16, 0, 16 * 1000 + 7).sort(file);
+      assertRecords(ByteBuffer.wrap(Files.readAllBytes(file)), 16, 0, keys);
+      Files.write(file, new byte[15]);
+      assertThrows(IllegalArgumentException.class, () -> new MappedRecordSort(16).sort(file));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  // keys sorted, and every key still with its own payload (its complement)
+  private static void assertRecords(ByteBuffer records, int recordSize, int keyOffset,
+      long[] keys) {
+    long[] expected = keys.clone();
+    Arrays.sort(expected);
+    for (int i = 0; i < expected.length; i++) {
+      long key = records.getLong(i * recordSize + keyOffset);
+      assertEquals(expected[i], key);
+      assertEquals(~key, records.getLong(i * recordSize + keyOffset + Long.BYTES));
+    }
+  }
+}
@@ -3,6 +3,9 @@ package com.sl.algorithms.sort.finitegroups.bucketsort;
 import static com.sl.algorithms.core.utils.ArrayOps.printArray;
 
 import com.sl.algorithms.sort.BaseTest;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -37,4 +40,53 @@ public class BucketSortTest extends BaseTest {
       assertEquals("[-0.897,-0.1234,0.0,0.3434,0.565,0.656]", printArray(fpSeries));
     }
   }
+
+  @Test
+  public void testAdaptiveBucketSort() {
+    AdaptiveBucketSort<Double> adaptiveBucketSort = new AdaptiveBucketSort<>();
+    assertThrows(IllegalArgumentException.class, () -> adaptiveBucketSort.sort((Double[]) null));
+    assertThrows(IllegalArgumentException.class, () -> adaptiveBucketSort.sort(new Double[]{}));
+    assertThrows(IllegalArgumentException.class, () -> adaptiveBucketSort.sort(new double[]{}));
+    assertThrows(UnsupportedOperationException.class, () -> adaptiveBucketSort.sortList(null));
+    {
+      Double[] fpSeries = new Double[]{-0.897, 565.0, 0.656, -1234.0, 0.0, 0.3434};
+      adaptiveBucketSort.sort(fpSeries);
+      assertEquals("[-1234.0,-0.897,0.0,0.3434,0.656,565.0]", printArray(fpSeries));
+    }
+    {
+      double[] nums = new double[]{Double.NaN, 0.0, -0.0, Double.NEGATIVE_INFINITY, 0.0, -0.0};
+      adaptiveBucketSort.sort(nums);
+      assertArrayEquals(new double[]{Double.NEGATIVE_INFINITY, -0.0, -0.0, 0.0, 0.0, Double.NaN},
+          nums);
+    }
+    assertAdaptiveBucketSort(adaptiveBucketSort);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      assertAdaptiveBucketSort(new AdaptiveBucketSort<>(1000, pool));
+      assertAdaptiveBucketSort(new AdaptiveBucketSort<>(1, pool));
+    } finally {
+      pool.shutdown();
+    }
+    assertThrows(IllegalArgumentException.class, () -> new AdaptiveBucketSort<>(0));
+    assertThrows(IllegalArgumentException.class, () -> new AdaptiveBucketSort<>(1, null));
+  }
+
+  private void assertAdaptiveBucketSort(AdaptiveBucketSort<Double> adaptiveBucketSort) {
+    Random random = new Random(100000);
+    int n = 100000;
+    double[][] inputs = new double[5][n];
+    for (int i = 0; i < n; i++) {
+      inputs[0][i] = random.nextGaussian(); // uniform-ish around 0
+      inputs[1][i] = Math.exp(20 * random.nextDouble()); // skewed: spans 9 orders of magnitude
+      inputs[2][i] = random.nextInt(10) == 0 ? random.nextDouble() : 42.0; // heavy hitter
+      inputs[3][i] = i % 3 == 0 ? Double.NaN : (i % 2 == 0 ? -0.0 : 0.0);
+      inputs[4][i] = n - i;
+    }
+    for (double[] nums : inputs) {
+      double[] expected = nums.clone();
+      Arrays.sort(expected);
+      adaptiveBucketSort.sort(nums);
+      assertArrayEquals(expected, nums);
+    }
+  }
 }
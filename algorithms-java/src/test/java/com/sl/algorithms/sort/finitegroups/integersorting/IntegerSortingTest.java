@@ -1,8 +1,11 @@
 package com.sl.algorithms.sort.finitegroups.integersorting;
 
+import com.sl.algorithms.core.interfaces.sort.PrimitiveSortingEngine;
 import com.sl.algorithms.core.interfaces.sort.SortingEngine;
 import com.sl.algorithms.sort.BaseTest;
 import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 
@@ -15,6 +18,63 @@ public class IntegerSortingTest extends BaseTest {
     integerSortingEngine = new CountingSort<>();
     assertBaseCases(integerSortingEngine);
     testkRange();
+    testkPlus();
+    testNegatives();
+    { // narrow range, i.e. counted rather than radix-sorted: equal values retain their order
+      Integer[] testData = new Integer[]{-2000, 2000, -2000, 2000};
+      Integer first = testData[0];
+      Integer third = testData[2];
+      new CountingSort<>().countSort(testData, -2000, 2000);
+      assertArrayEquals(new Integer[]{-2000, -2000, 2000, 2000}, testData);
+      assertSame(first, testData[0]);
+      assertSame(third, testData[1]);
+    }
+  }
+
+  @Test
+  public void testCountingSortPrimitives() {
+    CountingSort<Integer> countingSort = new CountingSort<>();
+    assertThrows(IllegalArgumentException.class, () -> countingSort.sort((int[]) null));
+    assertThrows(IllegalArgumentException.class, () -> countingSort.sort(new short[]{}));
+    assertThrows(IllegalArgumentException.class, () -> countingSort.sort((byte[]) null));
+    {
+      int[] nums = new int[]{3, -1, 0, -3, 2, -1, 3};
+      countingSort.sort(nums);
+      assertEquals("[-3, -1, -1, 0, 2, 3, 3]", Arrays.toString(nums));
+    }
+    { // range wider than the counts allow: radix-sorted
+      int[] nums = new int[]{Integer.MAX_VALUE, 0, Integer.MIN_VALUE, -1};
+      countingSort.sort(nums);
+      assertEquals("[-2147483648, -1, 0, 2147483647]", Arrays.toString(nums));
+    }
+    {
+      short[] nums = new short[]{Short.MAX_VALUE, 7, Short.MIN_VALUE, -7, 7};
+      countingSort.sort(nums);
+      assertEquals("[-32768, -7, 7, 7, 32767]", Arrays.toString(nums));
+    }
+    {
+      byte[] nums = new byte[]{Byte.MAX_VALUE, 0, Byte.MIN_VALUE, -1, 0};
+      countingSort.sort(nums);
+      assertEquals("[-128, -1, 0, 0, 127]", Arrays.toString(nums));
+    }
+    Random random = new Random(100000);
+    for (int bound : new int[]{10, 100000, 1 << 30}) { // counted, counted, radix-sorted
+      int[] nums = random.ints(100000, -bound, bound).toArray();
+      int[] expected = nums.clone();
+      Arrays.sort(expected);
+      countingSort.sort(nums);
+      assertArrayEquals(expected, nums);
+    }
+    {
+      short[] nums = new short[100000];
+      for (int i = 0; i < nums.length; i++) {
+        nums[i] = (short) random.nextInt();
+      }
+      short[] expected = nums.clone();
+      Arrays.sort(expected);
+      countingSort.sort(nums);
+      assertArrayEquals(expected, nums);
+    }
   }
 
   @Test
@@ -23,6 +83,89 @@ public class IntegerSortingTest extends BaseTest {
     assertBaseCases(integerSortingEngine);
     testkRange();
     testkPlus();
+    testNegatives();
+  }
+
+  @Test
+  public void testRadixSortPrimitives() {
+    assertPrimitiveSort(new RadixSort<>());
+  }
+
+  @Test
+  public void testParallelRadixSort() {
+    integerSortingEngine = new ParallelRadixSort<>();
+    assertBaseCases(integerSortingEngine);
+    testkRange();
+    testNegatives();
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      assertPrimitiveSort(new ParallelRadixSort<>(1000, pool));
+      assertPrimitiveSort(new ParallelRadixSort<>(1, pool)); // more chunks than needed
+      { // fewer elements than chunks
+        int[] nums = new int[]{3, -1, 2};
+        new ParallelRadixSort<>(1, pool).sort(nums);
+        assertArrayEquals(new int[]{-1, 2, 3}, nums);
+      }
+    } finally {
+      pool.shutdown();
+    }
+    assertThrows(IllegalArgumentException.class, () -> new ParallelRadixSort<>(0));
+    assertThrows(IllegalArgumentException.class, () -> new ParallelRadixSort<>(1, null));
+  }
+
+  private void assertPrimitiveSort(PrimitiveSortingEngine sortingEngine) {
+    assertThrows(IllegalArgumentException.class, () -> sortingEngine.sort((int[]) null));
+    assertThrows(IllegalArgumentException.class, () -> sortingEngine.sort(new long[]{}));
+    assertThrows(IllegalArgumentException.class, () -> sortingEngine.sort(new double[]{}));
+    {
+      int[] nums = new int[]{100, Integer.MIN_VALUE, -100, 2, 0, Integer.MAX_VALUE, -1, 1, -2};
+      sortingEngine.sort(nums);
+      assertEquals("[-2147483648, -100, -2, -1, 0, 1, 2, 100, 2147483647]",
+          Arrays.toString(nums));
+    }
+    {
+      long[] nums = new long[]{Long.MAX_VALUE, 2, -1, 1L << 40, 3, Long.MIN_VALUE, -(1L << 40)};
+      sortingEngine.sort(nums);
+      assertEquals("[-9223372036854775808, -1099511627776, -1, 2, 3, 1099511627776, "
+          + "9223372036854775807]", Arrays.toString(nums));
+    }
+    { // NaN and signed zeros follow Double.compare
+      double[] nums = new double[]{0.0, Double.NaN, -0.0, 1.5, Double.NEGATIVE_INFINITY, -0.0,
+          Double.MIN_VALUE, 0.0, -2.5};
+      sortingEngine.sort(nums);
+      assertEquals("[-Infinity, -2.5, -0.0, -0.0, 0.0, 0.0, 4.9E-324, 1.5, NaN]",
+          Arrays.toString(nums));
+    }
+    Random random = new Random(100000);
+    { // full range, i.e. every pass is needed
+      int[] nums = random.ints(100000).toArray();
+      int[] expected = nums.clone();
+      Arrays.sort(expected);
+      sortingEngine.sort(nums);
+      assertArrayEquals(expected, nums);
+    }
+    { // small non-negative values, i.e. an odd number of passes is needed
+      int[] nums = random.ints(100000, 0, 1 << 16).toArray();
+      nums[0] = 1 << 17;
+      int[] expected = nums.clone();
+      Arrays.sort(expected);
+      sortingEngine.sort(nums);
+      assertArrayEquals(expected, nums);
+    }
+    {
+      long[] nums = random.longs(100000).toArray();
+      long[] expected = nums.clone();
+      Arrays.sort(expected);
+      sortingEngine.sort(nums);
+      assertArrayEquals(expected, nums);
+    }
+    {
+      double[] nums = random.doubles(100000, -1e6, 1e6).toArray();
+      double[] expected = nums.clone();
+      Arrays.sort(expected);
+      sortingEngine.sort(nums);
+      assertArrayEquals(expected, nums);
+    }
   }
 
   private void testkRange() {
@@ -76,6 +219,24 @@ public class IntegerSortingTest extends BaseTest {
     }
   }
 
+  private void testNegatives() {
+    {
+      Integer[] testData = new Integer[]{170, -45, 75, Integer.MIN_VALUE, -802, 0, 2, -66};
+      Integer[] sortedData = new Integer[]{Integer.MIN_VALUE, -802, -66, -45, 0, 2, 75, 170};
+      integerSortingEngine.sort(testData);
+      assertArrayEquals(sortedData, testData);
+    }
+    { // equal values retain their input order
+      Integer[] testData = new Integer[]{1000, -1000, 1000, -1000};
+      Integer first = testData[0];
+      Integer third = testData[2];
+      integerSortingEngine.sort(testData);
+      assertArrayEquals(new Integer[]{-1000, -1000, 1000, 1000}, testData);
+      assertSame(first, testData[2]);
+      assertSame(third, testData[3]);
+    }
+  }
+
   private void testkPlus() {
     { // kMax is present
       Integer[] testData = new Integer[]{1, 2, 3, 10, 4};
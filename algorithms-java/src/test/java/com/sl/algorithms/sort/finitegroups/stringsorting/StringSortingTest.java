@@ -0,0 +1,101 @@
+package com.sl.algorithms.sort.finitegroups.stringsorting;
+
+import static com.sl.algorithms.core.utils.ArrayOps.printArray;
+
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+public class StringSortingTest {
+
+  private final AmericanFlagSort<String> americanFlagSort = new AmericanFlagSort<>();
+
+  @Test
+  public void testBaseCases() {
+    assertThrows(IllegalArgumentException.class, () -> americanFlagSort.sort((String[]) null));
+    assertThrows(IllegalArgumentException.class, () -> americanFlagSort.sort(new String[]{}));
+    assertThrows(IllegalArgumentException.class, () -> americanFlagSort.sort(new byte[][]{}));
+    assertThrows(UnsupportedOperationException.class, () -> americanFlagSort.sortList(null));
+    String[] singleElementArray = new String[]{"A"};
+    americanFlagSort.sort(singleElementArray);
+    assertEquals("[A]", printArray(singleElementArray));
+  }
+
+  @Test
+  public void testStringSort() {
+    {
+      String[] sampleStrings = new String[]{"Sarika", "Nikunj", "Roohani", "Sachin", "", "Sac"};
+      americanFlagSort.sort(sampleStrings);
+      assertEquals("[,Nikunj,Roohani,Sac,Sachin,Sarika]", printArray(sampleStrings));
+    }
+    Random random = new Random(50000);
+    { // URLs: long shared prefixes, prefixes of one another, duplicates and non-ASCII chars
+      String[] urls = new String[50000];
+      for (int i = 0; i < urls.length; i++) {
+        StringBuilder url = new StringBuilder("https://www.example.com/");
+        int depth = random.nextInt(4);
+        for (int j = 0; j < depth; j++) {
+          url.append(random.nextBoolean() ? "path/" : "p\u00e4th/").append(random.nextInt(50));
+        }
+        if (random.nextInt(10) == 0) {
+          url.append('\uFFFF');
+        }
+        urls[i] = url.toString();
+      }
+      String[] expected = urls.clone();
+      Arrays.sort(expected);
+      americanFlagSort.sort(urls);
+      assertArrayEquals(expected, urls);
+    }
+    { // random, over the full range of chars
+      String[] sampleStrings = new String[50000];
+      for (int i = 0; i < sampleStrings.length; i++) {
+        char[] chars = new char[random.nextInt(6)];
+        for (int j = 0; j < chars.length; j++) {
+          chars[j] = (char) (random.nextBoolean() ? 'a' + random.nextInt(3) : random.nextInt());
+        }
+        sampleStrings[i] = new String(chars);
+      }
+      String[] expected = sampleStrings.clone();
+      Arrays.sort(expected);
+      americanFlagSort.sort(sampleStrings);
+      assertArrayEquals(expected, sampleStrings);
+    }
+    { // all equal
+      String[] sampleStrings = new String[1000];
+      Arrays.fill(sampleStrings, "id-0000042");
+      americanFlagSort.sort(sampleStrings);
+      for (String s : sampleStrings) {
+        assertEquals("id-0000042", s);
+      }
+    }
+  }
+
+  @Test
+  public void testByteKeySort() {
+    {
+      byte[][] keys = new byte[][]{{1, 2}, {(byte) 0xFF}, {}, {1}, {-1, 0}, {1, 2, 0}, {0}};
+      americanFlagSort.sort(keys);
+      assertEquals("[[], [0], [1], [1, 2], [1, 2, 0], [-1], [-1, 0]]",
+          Arrays.deepToString(keys));
+    }
+    {
+      Random random = new Random(50000);
+      byte[][] keys = new byte[50000][];
+      for (int i = 0; i < keys.length; i++) {
+        keys[i] = new byte[4 + random.nextInt(4)];
+        keys[i][0] = 42; // shared prefix
+        for (int j = 1; j < keys[i].length; j++) {
+          keys[i][j] = (byte) random.nextInt(j == 1 ? 256 : 4);
+        }
+      }
+      byte[][] expected = keys.clone();
+      Arrays.sort(expected, Arrays::compareUnsigned);
+      americanFlagSort.sort(keys);
+      for (int i = 0; i < keys.length; i++) {
+        assertArrayEquals(expected[i], keys[i]);
+      }
+    }
+  }
+}
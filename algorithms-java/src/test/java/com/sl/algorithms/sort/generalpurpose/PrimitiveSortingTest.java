@@ -0,0 +1,180 @@
+package com.sl.algorithms.sort.generalpurpose;
+
+import static com.sl.algorithms.core.utils.ArrayOps.printArray;
+import static com.sl.algorithms.sort.generalpurpose.heap.HeapType.MAX_HEAP;
+import static com.sl.algorithms.sort.generalpurpose.heap.HeapType.MIN_HEAP;
+
+import com.sl.algorithms.core.interfaces.sort.PrimitiveSortingEngine;
+import com.sl.algorithms.sort.generalpurpose.heap.HeapSort;
+import com.sl.algorithms.sort.generalpurpose.merge.SortWorkspace;
+import com.sl.algorithms.sort.generalpurpose.merge.TopDownMergeSort;
+import com.sl.algorithms.sort.generalpurpose.smalldata.InsertionSort;
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+public class PrimitiveSortingTest {
+
+  private PrimitiveSortingEngine sortingEngine;
+
+  @Test
+  public void testInsertionSort() {
+    sortingEngine = new InsertionSort<>();
+    assertBaseCases();
+    assertSort(1000);
+  }
+
+  @Test
+  public void testQuickSort() {
+    sortingEngine = new QuickSort<>();
+    assertBaseCases();
+    assertSort(100000);
+  }
+
+  @Test
+  public void testIntroSort() {
+    sortingEngine = new QuickSort<>(QuickSortMode.INTROSPECTIVE);
+    assertBaseCases();
+    assertSort(100000);
+    { // organ-pipe
+      int[] nums = new int[100000];
+      for (int i = 0; i < nums.length; i++) {
+        nums[i] = i < nums.length / 2 ? i : nums.length - i;
+      }
+      int[] expected = nums.clone();
+      Arrays.sort(expected);
+      sortingEngine.sort(nums);
+      assertArrayEquals(expected, nums);
+    }
+  }
+
+  @Test
+  public void testDualPivotQuickSort() {
+    sortingEngine = new DualPivotQuickSort<>();
+    assertBaseCases();
+    assertSort(100000);
+    { // two distinct keys: p < q, with every other key equal to either of them
+      Random random = new Random(200000);
+      int[] nums = new int[200000];
+      long[] longs = new long[nums.length];
+      double[] doubles = new double[nums.length];
+      for (int i = 0; i < nums.length; i++) {
+        nums[i] = random.nextInt(2);
+        longs[i] = nums[i] - 1L;
+        doubles[i] = nums[i] / 2.0;
+      }
+      int[] expected = nums.clone();
+      Arrays.sort(expected);
+      long[] expectedLongs = longs.clone();
+      Arrays.sort(expectedLongs);
+      double[] expectedDoubles = doubles.clone();
+      Arrays.sort(expectedDoubles);
+      sortingEngine.sort(nums);
+      sortingEngine.sort(longs);
+      sortingEngine.sort(doubles);
+      assertArrayEquals(expected, nums);
+      assertArrayEquals(expectedLongs, longs);
+      assertArrayEquals(expectedDoubles, doubles);
+    }
+  }
+
+  @Test
+  public void testMaxHeapSort() {
+    sortingEngine = new HeapSort<>(MAX_HEAP);
+    assertBaseCases();
+    assertSort(100000);
+    { // sub-array only
+      int[] nums = new int[]{9, 15, 19, 10, 7, 17, 16, 0};
+      new HeapSort<>(MAX_HEAP).sort(nums, 1, 6);
+      assertEquals("[9,7,10,15,16,17,19,0]", printArray(nums));
+    }
+  }
+
+  @Test
+  public void testMinHeapSort() {
+    sortingEngine = new HeapSort<>(MIN_HEAP);
+    {
+      int[] nums = new int[]{15, 19, 10, 7, 17, 16};
+      sortingEngine.sort(nums);
+      assertEquals("[19,17,16,15,10,7]", printArray(nums));
+    }
+    {
+      double[] nums = new double[]{0.5, Double.NaN, -0.0, 0.0, -1.5};
+      sortingEngine.sort(nums);
+      assertEquals("[NaN, 0.5, 0.0, -0.0, -1.5]", Arrays.toString(nums));
+    }
+  }
+
+  @Test
+  public void testTopDownMergeSort() {
+    sortingEngine = new TopDownMergeSort<>();
+    assertBaseCases();
+    assertSort(100000);
+    sortingEngine = new TopDownMergeSort<>(new SortWorkspace());
+    assertBaseCases();
+    assertSort(100000);
+    assertSort(1000); // smaller than the buffer
+  }
+
+  private void assertBaseCases() {
+    assertThrows(IllegalArgumentException.class, () -> sortingEngine.sort((int[]) null));
+    assertThrows(IllegalArgumentException.class, () -> sortingEngine.sort(new long[]{}));
+    assertThrows(IllegalArgumentException.class, () -> sortingEngine.sort(new double[]{}));
+    int[] singleElementArray = new int[]{1};
+    sortingEngine.sort(singleElementArray);
+    assertEquals("[1]", printArray(singleElementArray));
+  }
+
+  private void assertSort(int largeSize) {
+    {
+      int[] nums = new int[]{100, -100, 2, 0, -1, 1, -2};
+      sortingEngine.sort(nums);
+      assertEquals("[-100,-2,-1,0,1,2,100]", printArray(nums));
+    }
+    {
+      long[] nums = new long[]{Long.MAX_VALUE, 2, 1, 3, 5, 3, Long.MIN_VALUE};
+      sortingEngine.sort(nums);
+      assertEquals("[-9223372036854775808, 1, 2, 3, 3, 5, 9223372036854775807]",
+          Arrays.toString(nums));
+    }
+    { // NaN and signed zeros follow Double.compare
+      double[] nums = new double[]{0.0, Double.NaN, -0.0, 1.5, Double.NEGATIVE_INFINITY, -0.0,
+          Double.NaN, 0.0, -2.5};
+      sortingEngine.sort(nums);
+      assertEquals("[-Infinity, -2.5, -0.0, -0.0, 0.0, 0.0, 1.5, NaN, NaN]",
+          Arrays.toString(nums));
+    }
+    Random random = new Random(largeSize);
+    { // random, with plenty of duplicates
+      int[] nums = random.ints(largeSize, -largeSize / 10, largeSize / 10).toArray();
+      int[] expected = nums.clone();
+      Arrays.sort(expected);
+      sortingEngine.sort(nums);
+      assertArrayEquals(expected, nums);
+    }
+    { // few unique values
+      long[] nums = random.longs(largeSize, 0, 4).toArray();
+      long[] expected = nums.clone();
+      Arrays.sort(expected);
+      sortingEngine.sort(nums);
+      assertArrayEquals(expected, nums);
+    }
+    { // already sorted, then reversed
+      double[] nums = new double[largeSize];
+      for (int i = 0; i < largeSize; i++) {
+        nums[i] = i * 0.5;
+      }
+      double[] expected = nums.clone();
+      sortingEngine.sort(nums);
+      assertArrayEquals(expected, nums);
+      for (int i = 0; i < largeSize; i++) {
+        nums[i] = -i * 0.5;
+      }
+      expected = nums.clone();
+      Arrays.sort(expected);
+      sortingEngine.sort(nums);
+      assertArrayEquals(expected, nums);
+    }
+  }
+}
@@ -5,15 +5,24 @@ import static com.sl.algorithms.core.utils.ArrayOps.printArray;
 import static com.sl.algorithms.sort.generalpurpose.heap.HeapType.MAX_HEAP;
 import static com.sl.algorithms.sort.generalpurpose.heap.HeapType.MIN_HEAP;
 
+import com.sl.algorithms.core.interfaces.select.PartitionScheme;
 import com.sl.algorithms.core.interfaces.sort.SortingEngine;
 import com.sl.algorithms.core.list.ListNode;
 import com.sl.algorithms.sort.BaseTest;
 import com.sl.algorithms.sort.generalpurpose.heap.HeapSort;
 import com.sl.algorithms.sort.generalpurpose.merge.BottomUpMergeSort;
+import com.sl.algorithms.sort.generalpurpose.merge.NaturalMergeSort;
+import com.sl.algorithms.sort.generalpurpose.merge.ParallelMergeSort;
+import com.sl.algorithms.sort.generalpurpose.merge.SortWorkspace;
 import com.sl.algorithms.sort.generalpurpose.merge.TopDownMergeSort;
 import com.sl.algorithms.sort.generalpurpose.smalldata.BubbleSort;
 import com.sl.algorithms.sort.generalpurpose.smalldata.InsertionSort;
 import com.sl.algorithms.sort.generalpurpose.smalldata.SelectionSort;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 
@@ -64,6 +73,110 @@ public class SortingTest extends BaseTest {
     assertBaseCases(integerSortingEngine);
     assertSort();
     assertListSort();
+    assertLargeSort(200000);
+    assertStableSort(new BottomUpMergeSort<>());
+    { // one scratch buffer, reused across sorts with an odd and an even number of passes
+      BottomUpMergeSort<Integer> bottomUpMergeSort = new BottomUpMergeSort<>();
+      Integer[] scratch = new Integer[8];
+      Integer[] sampleNumbers = new Integer[]{15, 19, 10, 7, 17, 16, 3, 8};
+      bottomUpMergeSort.sort(sampleNumbers, scratch);
+      assertEquals("[3,7,8,10,15,16,17,19]", printArray(sampleNumbers));
+      sampleNumbers = new Integer[]{10, 7, 3, 1};
+      bottomUpMergeSort.sort(sampleNumbers, scratch);
+      assertEquals("[1,3,7,10]", printArray(sampleNumbers));
+      assertThrows(IllegalArgumentException.class,
+          () -> bottomUpMergeSort.sort(new Integer[]{3, 2, 1}, new Integer[2]));
+    }
+  }
+
+  @Test
+  public void testParallelMergeSort() {
+    integerSortingEngine = new ParallelMergeSort<>();
+    stringSortingEngine = new ParallelMergeSort<>();
+    assertBaseCases(integerSortingEngine);
+    assertSort();
+    assertListSort();
+    integerSortingEngine = new ParallelMergeSort<>(64);
+    assertLargeSort(200000);
+    assertStableSort(new ParallelMergeSort<>(64));
+    assertThrows(IllegalArgumentException.class, () -> new ParallelMergeSort<>(1));
+  }
+
+  @Test
+  public void testNaturalMergeSort() {
+    integerSortingEngine = new NaturalMergeSort<>();
+    stringSortingEngine = new NaturalMergeSort<>();
+    assertBaseCases(integerSortingEngine);
+    assertSort();
+    assertListSort();
+    assertLargeSort(200000);
+    assertStableSort(new NaturalMergeSort<>());
+    { // appended batches: sorted runs, some of them descending, with a few repeated keys
+      Record[] records = new Record[100000];
+      for (int i = 0; i < records.length; i++) {
+        int batch = i / 1000;
+        int offset = i % 1000;
+        int key = batch % 2 == 0 ? (batch * 37 + offset) / 2 : (batch * 37 + 1000 - offset);
+        records[i] = new Record(key % 50000, i);
+      }
+      SortingEngine<Record> recordSortingEngine = new NaturalMergeSort<>();
+      recordSortingEngine.sort(records);
+      for (int i = 1; i < records.length; i++) {
+        assertTrue(records[i - 1].key <= records[i].key);
+        if (records[i - 1].key == records[i].key) {
+          assertTrue(records[i - 1].seq < records[i].seq, "order of equal keys must be retained");
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testSortWorkspace() {
+    SortWorkspace workspace = new SortWorkspace();
+    Object[] buffer = workspace.objects(200000);
+    integerSortingEngine = new TopDownMergeSort<>(workspace);
+    stringSortingEngine = new TopDownMergeSort<>(workspace);
+    assertSort();
+    assertLargeSort(200000);
+    integerSortingEngine = new BottomUpMergeSort<>(workspace);
+    stringSortingEngine = new BottomUpMergeSort<>(workspace);
+    assertSort();
+    assertLargeSort(200000);
+    integerSortingEngine = new NaturalMergeSort<>(workspace);
+    stringSortingEngine = new NaturalMergeSort<>(workspace);
+    assertSort();
+    assertLargeSort(200000);
+    assertSame(buffer, workspace.objects(200000), "the buffer must be reused, not re-allocated");
+    for (Object c : buffer) {
+      assertNull(c, "the buffer must not hold on to sorted elements");
+    }
+    { // shared engine, with per-thread buffers
+      integerSortingEngine = new TopDownMergeSort<>(SortWorkspace.perThread());
+      Thread[] threads = new Thread[4];
+      Throwable[] failures = new Throwable[threads.length];
+      for (int t = 0; t < threads.length; t++) {
+        int id = t;
+        threads[t] = new Thread(() -> {
+          try {
+            for (int i = 0; i < 20; i++) {
+              assertLargeSort(10000 + id);
+            }
+          } catch (Throwable failure) {
+            failures[id] = failure;
+          }
+        });
+        threads[t].start();
+      }
+      for (int t = 0; t < threads.length; t++) {
+        try {
+          threads[t].join();
+        } catch (InterruptedException ie) {
+          fail(ie);
+        }
+        assertNull(failures[t]);
+      }
+    }
+    assertThrows(IllegalArgumentException.class, () -> new TopDownMergeSort<>(null));
   }
 
   @Test
@@ -74,6 +187,123 @@ public class SortingTest extends BaseTest {
     assertSort();
   }
 
+  @Test
+  public void testIntroSort() {
+    integerSortingEngine = new QuickSort<>(QuickSortMode.INTROSPECTIVE);
+    stringSortingEngine = new QuickSort<>(QuickSortMode.INTROSPECTIVE);
+    assertBaseCases(integerSortingEngine);
+    assertSort();
+    assertLargeSort(200000);
+    { // all-equal: every pivot lands at the start, i.e. quadratic without the depth limit
+      Integer[] sampleNumbers = new Integer[200000];
+      Arrays.fill(sampleNumbers, 7);
+      integerSortingEngine.sort(sampleNumbers);
+      assertEquals(7, sampleNumbers[0].intValue());
+      assertEquals(7, sampleNumbers[199999].intValue());
+    }
+    assertThrows(IllegalArgumentException.class, () -> new QuickSort<>(null));
+  }
+
+  @Test
+  public void testThreeWayQuickSort() {
+    for (QuickSortMode mode : QuickSortMode.values()) {
+      integerSortingEngine = new QuickSort<>(mode, PartitionScheme.THREE_WAY);
+      stringSortingEngine = new QuickSort<>(mode, PartitionScheme.THREE_WAY);
+      assertBaseCases(integerSortingEngine);
+      assertSort();
+      assertLargeSort(200000);
+      { // few distinct keys
+        Integer[] sampleNumbers = new Integer[200000];
+        for (int i = 0; i < sampleNumbers.length; i++) {
+          sampleNumbers[i] = (i * 7919) % 5;
+        }
+        Integer[] expected = sampleNumbers.clone();
+        Arrays.sort(expected);
+        integerSortingEngine.sort(sampleNumbers);
+        assertArrayEquals(expected, sampleNumbers);
+      }
+    }
+    assertThrows(IllegalArgumentException.class,
+        () -> new QuickSort<>(QuickSortMode.CLASSIC, null));
+  }
+
+  @Test
+  public void testDualPivotQuickSort() {
+    integerSortingEngine = new DualPivotQuickSort<>();
+    stringSortingEngine = new DualPivotQuickSort<>();
+    assertBaseCases(integerSortingEngine);
+    assertSort();
+    assertLargeSort(200000);
+    { // all-equal
+      Integer[] sampleNumbers = new Integer[200000];
+      Arrays.fill(sampleNumbers, 7);
+      integerSortingEngine.sort(sampleNumbers);
+      assertEquals(7, sampleNumbers[199999].intValue());
+    }
+    assertFewUniqueSort(200000, 2); // p < q, with every other key equal to either of them
+    assertFewUniqueSort(200000, 3);
+  }
+
+  @Test
+  public void testParallelQuickSort() {
+    integerSortingEngine = new ParallelQuickSort<>();
+    stringSortingEngine = new ParallelQuickSort<>();
+    assertBaseCases(integerSortingEngine);
+    assertSort();
+    integerSortingEngine = new ParallelQuickSort<>(64);
+    assertLargeSort(200000);
+    assertThrows(IllegalArgumentException.class, () -> new ParallelQuickSort<>(1));
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try { // few distinct keys: the tasks must not nest once per element
+      integerSortingEngine = new ParallelQuickSort<>(64, pool);
+      assertFewUniqueSort(100000, 1);
+      assertFewUniqueSort(100000, 3);
+      assertFewUniqueSort(1000000, 16);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testSampleSort() {
+    integerSortingEngine = new SampleSort<>();
+    stringSortingEngine = new SampleSort<>();
+    assertBaseCases(integerSortingEngine);
+    assertSort();
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      integerSortingEngine = new SampleSort<>(64, pool);
+      assertLargeSort(200000);
+      { // heavy hitter: the equal keys get a bucket of their own
+        Random random = new Random(200000);
+        Integer[] sampleNumbers = new Integer[200000];
+        for (int i = 0; i < sampleNumbers.length; i++) {
+          sampleNumbers[i] = random.nextInt(10) == 0 ? random.nextInt() : 42;
+        }
+        Integer[] expected = sampleNumbers.clone();
+        Arrays.sort(expected);
+        integerSortingEngine.sort(sampleNumbers);
+        assertArrayEquals(expected, sampleNumbers);
+      }
+      { // all-equal
+        Integer[] sampleNumbers = new Integer[200000];
+        Arrays.fill(sampleNumbers, 7);
+        integerSortingEngine.sort(sampleNumbers);
+        assertEquals(7, sampleNumbers[199999].intValue());
+      }
+      { // fewer elements than buckets
+        integerSortingEngine = new SampleSort<>(2, pool);
+        Integer[] sampleNumbers = new Integer[]{3, -1, 2, 0, 5};
+        integerSortingEngine.sort(sampleNumbers);
+        assertEquals("[-1,0,2,3,5]", printArray(sampleNumbers));
+      }
+    } finally {
+      pool.shutdown();
+    }
+    assertThrows(IllegalArgumentException.class, () -> new SampleSort<>(1));
+    assertThrows(IllegalArgumentException.class, () -> new SampleSort<>(2, null));
+  }
+
   @Test
   public void testMaxHeapSort() {
     integerSortingEngine = new HeapSort<>(MAX_HEAP);
@@ -92,6 +322,131 @@ public class SortingTest extends BaseTest {
     }
   }
 
+  @Test
+  public void testComparator() {
+    List<SortingEngine<Integer>> sortingEngines = Arrays.asList(new BubbleSort<>(),
+        new SelectionSort<>(), new InsertionSort<>(), new TopDownMergeSort<>(),
+        new BottomUpMergeSort<>(), new ParallelMergeSort<>(64), new NaturalMergeSort<>(),
+        new HeapSort<>(MAX_HEAP), new QuickSort<>(), new QuickSort<>(QuickSortMode.INTROSPECTIVE),
+        new QuickSort<>(QuickSortMode.CLASSIC, PartitionScheme.THREE_WAY),
+        new DualPivotQuickSort<>(), new ParallelQuickSort<>(64), new SampleSort<>(64));
+    Random random = new Random(2000);
+    for (SortingEngine<Integer> sortingEngine : sortingEngines) {
+      {
+        String[] sampleStrings = new String[]{"Sarika", "Nikunj", "Roohani", "Sachin"};
+        sortingEngine.sort(sampleStrings, Comparator.reverseOrder());
+        assertEquals("[Sarika,Sachin,Roohani,Nikunj]", printArray(sampleStrings));
+      }
+      { // the elements need not be Comparable
+        int[][] points = new int[2000][];
+        for (int i = 0; i < points.length; i++) {
+          points[i] = new int[]{random.nextInt(500), i};
+        }
+        int[][] expected = points.clone();
+        Arrays.sort(expected, Comparator.comparingInt(p -> -p[0]));
+        sortingEngine.sort(points, Comparator.comparingInt(p -> -p[0]));
+        for (int i = 0; i < points.length; i++) {
+          assertEquals(expected[i][0], points[i][0]);
+        }
+      }
+      assertThrows(IllegalArgumentException.class,
+          () -> sortingEngine.sort(new String[]{"B", "A"}, null));
+    }
+    // merge sorts: equal elements retain their input order
+    List<SortingEngine<Integer>> stableSortingEngines = Arrays.asList(new TopDownMergeSort<>(),
+        new BottomUpMergeSort<>(), new ParallelMergeSort<>(64), new NaturalMergeSort<>());
+    for (SortingEngine<Integer> sortingEngine : stableSortingEngines) {
+      int[][] points = new int[100000][];
+      for (int i = 0; i < points.length; i++) {
+        points[i] = new int[]{random.nextInt(100), i};
+      }
+      sortingEngine.sort(points, Comparator.comparingInt(p -> p[0]));
+      for (int i = 1; i < points.length; i++) {
+        assertTrue(points[i - 1][0] <= points[i][0]);
+        if (points[i - 1][0] == points[i][0]) {
+          assertTrue(points[i - 1][1] < points[i][1], "order of equal keys must be retained");
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testSortByKey() {
+    List<SortingEngine<Integer>> sortingEngines = Arrays.asList(new BubbleSort<>(),
+        new HeapSort<>(MIN_HEAP), new QuickSort<>(), new NaturalMergeSort<>());
+    Random random = new Random(5000);
+    for (SortingEngine<Integer> sortingEngine : sortingEngines) {
+      { // int key; stable, whatever the engine
+        String[] timestamps = new String[5000];
+        for (int i = 0; i < timestamps.length; i++) {
+          timestamps[i] = String.format("%02d:%02d#%d", random.nextInt(24), random.nextInt(60), i);
+        }
+        String[] expected = timestamps.clone();
+        Arrays.sort(expected, Comparator.comparingInt(SortingTest::minuteOfDay));
+        sortingEngine.sortByIntKey(timestamps, SortingTest::minuteOfDay);
+        assertArrayEquals(expected, timestamps);
+      }
+      { // long key, including the extremes
+        Long[] sampleNumbers = new Long[]{3L, Long.MAX_VALUE, -1L, Long.MIN_VALUE, 0L, 3L};
+        sortingEngine.sortByLongKey(sampleNumbers, Long::longValue);
+        assertEquals("[-9223372036854775808,-1,0,3,3,9223372036854775807]",
+            printArray(sampleNumbers));
+      }
+      { // double key, in the order of Double.compare
+        Double[] sampleNumbers = new Double[]{Double.NaN, 1.5, 0.0, -0.0, Double.NEGATIVE_INFINITY,
+            -2.5, Double.POSITIVE_INFINITY};
+        sortingEngine.sortByDoubleKey(sampleNumbers, Double::doubleValue);
+        assertEquals("[-Infinity,-2.5,-0.0,0.0,1.5,Infinity,NaN]", printArray(sampleNumbers));
+      }
+      {
+        Integer[] singleElement = new Integer[]{1};
+        sortingEngine.sortByIntKey(singleElement, Integer::intValue);
+        assertEquals("[1]", printArray(singleElement));
+      }
+      assertThrows(IllegalArgumentException.class,
+          () -> sortingEngine.sortByIntKey(new Integer[]{}, Integer::intValue));
+      assertThrows(IllegalArgumentException.class,
+          () -> sortingEngine.sortByLongKey(new Integer[]{2, 1}, null));
+    }
+    { // int keys are sorted by the engine's own long[] path
+      int[] longSorts = new int[1];
+      SortingEngine<Integer> sortingEngine = new DualPivotQuickSort<Integer>() {
+        @Override
+        public void sort(long[] nums) {
+          longSorts[0]++;
+          super.sort(nums);
+        }
+      };
+      Integer[] sampleNumbers = new Integer[10000];
+      for (int i = 0; i < sampleNumbers.length; i++) {
+        sampleNumbers[i] = random.nextInt(100) - 50;
+      }
+      Integer[] expected = sampleNumbers.clone();
+      Arrays.sort(expected, Comparator.comparingInt(Math::abs));
+      sortingEngine.sortByIntKey(sampleNumbers, Math::abs); // stable, by a non-stable engine
+      assertEquals(1, longSorts[0]);
+      for (int i = 0; i < expected.length; i++) {
+        assertSame(expected[i], sampleNumbers[i]);
+      }
+      Long[] longNumbers = new Long[10000]; // not cached, so that assertSame tells them apart
+      for (int i = 0; i < longNumbers.length; i++) {
+        longNumbers[i] = (random.nextInt(100) - 50) * (1L << 40) + random.nextInt(1000);
+      }
+      Long[] expectedLongs = longNumbers.clone();
+      Arrays.sort(expectedLongs, Comparator.comparingLong(x -> x >> 40));
+      sortingEngine.sortByLongKey(longNumbers, x -> x >> 40); // keys, then (rank, index) pairs
+      assertEquals(3, longSorts[0]);
+      for (int i = 0; i < expectedLongs.length; i++) {
+        assertSame(expectedLongs[i], longNumbers[i]);
+      }
+    }
+  }
+
+  private static int minuteOfDay(String timestamp) { // costly to compare as a String
+    return Integer.parseInt(timestamp.substring(0, 2)) * 60
+        + Integer.parseInt(timestamp.substring(3, 5));
+  }
+
   private void assertSort() {
     {
       String[] sampleData = new String[]{"X", "A", "C", "Y", "B", "Z"};
@@ -132,6 +487,58 @@ public class SortingTest extends BaseTest {
     }
   }
 
+  private void assertLargeSort(int largeSize) {
+    Random random = new Random(largeSize);
+    { // random, with plenty of duplicates
+      Integer[] sampleNumbers = new Integer[largeSize];
+      for (int i = 0; i < largeSize; i++) {
+        sampleNumbers[i] = random.nextInt(largeSize / 4);
+      }
+      Integer[] expected = sampleNumbers.clone();
+      Arrays.sort(expected);
+      integerSortingEngine.sort(sampleNumbers);
+      assertArrayEquals(expected, sampleNumbers);
+    }
+    { // reversed
+      Integer[] sampleNumbers = new Integer[largeSize];
+      Integer[] expected = new Integer[largeSize];
+      for (int i = 0; i < largeSize; i++) {
+        sampleNumbers[i] = largeSize - i;
+        expected[i] = i + 1;
+      }
+      integerSortingEngine.sort(sampleNumbers);
+      assertArrayEquals(expected, sampleNumbers);
+    }
+  }
+
+  private void assertFewUniqueSort(int largeSize, int distinct) {
+    Random random = new Random(largeSize);
+    Integer[] sampleNumbers = new Integer[largeSize];
+    for (int i = 0; i < largeSize; i++) {
+      sampleNumbers[i] = random.nextInt(distinct);
+    }
+    Integer[] expected = sampleNumbers.clone();
+    Arrays.sort(expected);
+    integerSortingEngine.sort(sampleNumbers);
+    assertArrayEquals(expected, sampleNumbers);
+  }
+
+  private void assertStableSort(SortingEngine<Record> recordSortingEngine) {
+    int largeSize = 100000;
+    Random random = new Random(largeSize);
+    Record[] records = new Record[largeSize];
+    for (int i = 0; i < largeSize; i++) {
+      records[i] = new Record(random.nextInt(100), i);
+    }
+    recordSortingEngine.sort(records);
+    for (int i = 1; i < largeSize; i++) {
+      assertTrue(records[i - 1].key <= records[i].key);
+      if (records[i - 1].key == records[i].key) {
+        assertTrue(records[i - 1].seq < records[i].seq, "order of equal keys must be retained");
+      }
+    }
+  }
+
   private void assertListSort() {
     {
       try {
@@ -190,4 +597,23 @@ public class SortingTest extends BaseTest {
           integerSortingEngine.sortList(sampleNumbers32Plus).toString());
     }
   }
+
+  /**
+   * Compared by key only, so that the seq tells whether equal keys retained their input order.
+   */
+  private static class Record implements Comparable<Record> {
+
+    private final int key;
+    private final int seq;
+
+    Record(int key, int seq) {
+      this.key = key;
+      this.seq = seq;
+    }
+
+    @Override
+    public int compareTo(Record o) {
+      return Integer.compare(key, o.key);
+    }
+  }
 }